@@ -0,0 +1,13 @@
+package com.google.cloud.firestore;
+
+import java.util.Map;
+
+// Exposes the reflective mapper behind DocumentSnapshot.toObject(), which is package-private, so
+// its cost can be measured on synthetic document data without a Firestore backend
+public final class FirestoreMapping {
+    private FirestoreMapping() {}
+
+    public static <T> T toObject(Map<String, Object> data, Class<T> type) {
+        return CustomClassMapper.convertToCustomClass(data, type, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.placement.benchmarks;
+
+import com.placement.models.Candidate;
+import com.placement.models.CandidateRow;
+import com.placement.models.CandidateStore;
+import com.placement.services.CandidateQuery;
+import com.placement.services.mapping.CandidateMapper;
+import com.placement.services.search.CandidateSearch;
+import com.placement.services.search.CandidateSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// The recruiter filter: a linear pass over loaded rows (as filterCandidates() does when the window
+// is complete) against the in-memory search index, plus building the table rows themselves
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CandidateFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int candidates;
+
+    @Param({"", "ri"})
+    public String namePrefix;
+
+    private List<Candidate> loaded;
+    private List<CandidateRow> rows;
+    private CandidateSearchIndex index;
+    private CandidateSearch search;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> documents = Fixtures.candidateDocuments(candidates);
+        loaded = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            loaded.add(CandidateMapper.fromDataWithoutCv(Fixtures.candidateId(i), documents.get(i)));
+        }
+        rows = toRows(loaded);
+        index = new CandidateSearchIndex();
+        index.rebuild(loaded);
+        search = CandidateSearch.of(CandidateQuery.of(70, "B.Tech"), namePrefix);
+    }
+
+    @Benchmark
+    public List<Candidate> streamFilterCandidates() {
+        return loaded.stream().filter(search::matches).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CandidateRow> streamFilterRows() {
+        return rows.stream().filter(search::matches).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CandidateSearchIndex.Result indexSearch() {
+        return index.search(search);
+    }
+
+    @Benchmark
+    public List<CandidateRow> buildRows() {
+        return toRows(loaded);
+    }
+
+    private static List<CandidateRow> toRows(List<Candidate> candidates) {
+        CandidateStore store = new CandidateStore();
+        List<CandidateRow> rows = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            rows.add(store.put(candidate));
+        }
+        return rows;
+    }
+}
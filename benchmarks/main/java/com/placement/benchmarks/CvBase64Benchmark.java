@@ -0,0 +1,56 @@
+package com.placement.benchmarks;
+
+import com.placement.services.cv.CvStorageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// Legacy inline CVs: encoding a PDF to the cvUrl Base64 form, and the streaming decode used when
+// a recruiter opens one
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CvBase64Benchmark {
+
+    @Param({"65536", "524288", "2097152"})
+    public int pdfBytes;
+
+    private byte[] pdf;
+    private String base64;
+    private WritableByteChannel sink;
+
+    @Setup
+    public void setUp() {
+        pdf = Fixtures.pdfBytes(pdfBytes);
+        base64 = Base64.getEncoder().encodeToString(pdf);
+        sink = Channels.newChannel(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String encode() {
+        return Base64.getEncoder().encodeToString(pdf);
+    }
+
+    @Benchmark
+    public void decodeLegacy() throws IOException {
+        CvStorageService.decodeLegacy(base64, sink);
+    }
+}
@@ -0,0 +1,86 @@
+package com.placement.benchmarks;
+
+import com.google.cloud.Timestamp;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Deterministic synthetic documents shaped like DocumentSnapshot.getData() of this app's collections:
+// whole-number marks come back as Long and the rest as Double, as Firestore returns them, and a
+// share of candidates still carry a legacy inline Base64 CV
+final class Fixtures {
+    static final String[] QUALIFICATIONS = {"B.Tech", "M.Tech", "BE", "BCA", "MCA", "Diploma in CS", "Diploma in IT",
+        "Diploma in BIOMED", "Diploma in MECH", "B.COM", "M.COM", "CA", "BA", "BBA", "LLB", "B.Ed", "Other"};
+    static final String[] STATUSES = {"PENDING", "ACCEPTED", "REJECTED"};
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Aditi", "Arjun", "Diya", "Ishaan", "Kavya", "Meera", "Neha",
+        "Rahul", "Riya", "Rohan", "Saanvi", "Sneha", "Tanvi", "Varun", "Vihaan"};
+    private static final String[] LAST_NAMES = {"Shah", "Patel", "Mehta", "Iyer", "Reddy", "Gupta", "Joshi", "Desai",
+        "Nair", "Kapoor", "Chawda", "Rao"};
+    private static final long SEED = 42;
+    private static final int LEGACY_CV_EVERY = 10;
+    private static final int LEGACY_CV_BYTES = 4 * 1024;
+
+    private Fixtures() {}
+
+    static String candidateId(int i) {
+        return String.format("cand%08d", i);
+    }
+
+    static List<Map<String, Object>> candidateDocuments(int count) {
+        Random random = new Random(SEED);
+        String legacyCv = base64Payload(LEGACY_CV_BYTES);
+        Timestamp updatedAt = Timestamp.ofTimeSecondsAndNanos(1_760_000_000L, 0);
+        List<Map<String, Object>> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> data = new HashMap<>();
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            data.put("name", name);
+            data.put("email", name.replace(' ', '.').toLowerCase() + i + "@example.com");
+            int tenths = 350 + random.nextInt(651); // 35.0 to 100.0
+            data.put("marks", tenths % 10 == 0 ? (Object) (long) (tenths / 10) : (Object) (tenths / 10.0));
+            data.put("qualification", QUALIFICATIONS[random.nextInt(QUALIFICATIONS.length)]);
+            if (i % LEGACY_CV_EVERY == 0) {
+                data.put("cvUrl", legacyCv);
+            } else {
+                data.put("cvHash", Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong()));
+                data.put("cvSize", 100_000L + random.nextInt(900_000));
+                data.put("cvMimeType", "application/pdf");
+            }
+            data.put("updatedAt", updatedAt);
+            documents.add(data);
+        }
+        return documents;
+    }
+
+    static List<Map<String, Object>> offerDocuments(int count, int candidateCount) {
+        Random random = new Random(SEED);
+        Timestamp timestamp = Timestamp.ofTimeSecondsAndNanos(1_760_000_000L, 0);
+        List<Map<String, Object>> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("candidateId", candidateId(random.nextInt(candidateCount)));
+            data.put("recruiterId", "recruiter" + random.nextInt(100));
+            data.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+            data.put("timestamp", timestamp);
+            data.put("estimatedSalary", (double) (300_000 + random.nextInt(2_000_000)));
+            data.put("updatedAt", timestamp);
+            documents.add(data);
+        }
+        return documents;
+    }
+
+    static byte[] pdfBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(SEED).nextBytes(bytes);
+        return bytes;
+    }
+
+    static String base64Payload(int size) {
+        return Base64.getEncoder().encodeToString(pdfBytes(size));
+    }
+}
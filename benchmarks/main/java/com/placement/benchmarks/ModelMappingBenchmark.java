@@ -0,0 +1,83 @@
+package com.placement.benchmarks;
+
+import com.google.cloud.firestore.FirestoreMapping;
+import com.placement.models.Candidate;
+import com.placement.models.Offer;
+import com.placement.services.mapping.CandidateMapper;
+import com.placement.services.mapping.OfferMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Cost of doc.toObject(Candidate.class) / toObject(Offer.class) over a full result set, against the
+// hand-written mappers that replaced them
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int candidates;
+
+    private List<Map<String, Object>> candidateDocuments;
+    private List<Map<String, Object>> offerDocuments;
+
+    @Setup
+    public void setUp() {
+        candidateDocuments = Fixtures.candidateDocuments(candidates);
+        offerDocuments = Fixtures.offerDocuments(candidates, candidates);
+    }
+
+    @Benchmark
+    public void candidatesToObject(Blackhole blackhole) {
+        for (int i = 0; i < candidateDocuments.size(); i++) {
+            Candidate candidate = FirestoreMapping.toObject(candidateDocuments.get(i), Candidate.class);
+            candidate.setId(Fixtures.candidateId(i));
+            blackhole.consume(candidate);
+        }
+    }
+
+    @Benchmark
+    public void offersToObject(Blackhole blackhole) {
+        for (Map<String, Object> data : offerDocuments) {
+            blackhole.consume(FirestoreMapping.toObject(data, Offer.class));
+        }
+    }
+
+    @Benchmark
+    public void candidatesMapper(Blackhole blackhole) {
+        for (int i = 0; i < candidateDocuments.size(); i++) {
+            blackhole.consume(CandidateMapper.fromData(Fixtures.candidateId(i), candidateDocuments.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void candidatesMapperWithoutCv(Blackhole blackhole) {
+        for (int i = 0; i < candidateDocuments.size(); i++) {
+            blackhole.consume(CandidateMapper.fromDataWithoutCv(Fixtures.candidateId(i), candidateDocuments.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void offersMapper(Blackhole blackhole) {
+        for (int i = 0; i < offerDocuments.size(); i++) {
+            blackhole.consume(OfferMapper.fromData("offer" + i, offerDocuments.get(i)));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.placement.benchmarks;
+
+import com.placement.services.password.PasswordHashing;
+import com.placement.services.password.Pbkdf2PasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Login and sign-up hashing cost per PBKDF2 work factor; the last value is the production default
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10000", "100000", "" + PasswordHashing.DEFAULT_ITERATIONS})
+    public int iterations;
+
+    private Pbkdf2PasswordHasher hasher;
+    private String encodedHash;
+
+    @Setup
+    public void setUp() {
+        hasher = new Pbkdf2PasswordHasher(iterations);
+        encodedHash = hasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public String hash() {
+        return hasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return hasher.verify(PASSWORD, encodedHash);
+    }
+}
@@ -1,5 +1,12 @@
 package com.placement;
 
+import com.placement.services.Session;
+
+// Controllers of cached, session-bound views. SceneManager parses each view once and then rebinds
+// the same controller on every visit: initializeData on show, dispose when navigating away.
 public interface Dashboard {
-    void initializeData(String userId);
+    void initializeData(Session session);
+
+    // Called when navigating away; release listeners and clear per-session state so the view can be rebound
+    default void dispose() {}
 }
@@ -2,7 +2,12 @@ package com.placement;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
-import com.placement.services.FirebaseService;
+import com.placement.services.AsyncService;
+import com.placement.services.RecruiterDirectory;
+import com.placement.services.password.PasswordHashing;
+import com.placement.services.replica.LocalReplica;
+import com.placement.services.replica.ReplicaSync;
+import com.placement.services.repository.RepositoryMetrics;
 import java.io.IOException;
 
 
@@ -10,15 +15,23 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) throws IOException {
         try {
-            FirebaseService.initialize();
-            SceneManager.setPrimaryStage(primaryStage);
-            SceneManager.loadLoginPage();
+            new StartupOrchestrator().start(primaryStage);
         } catch (IOException e) {
             System.err.println("Failed to initialize application: " + e.getMessage());
             throw e;
         }
     }
 
+    @Override
+    public void stop() {
+        ReplicaSync.shutdown();
+        RecruiterDirectory.shutdown();
+        AsyncService.shutdown();
+        PasswordHashing.shutdown();
+        LocalReplica.close();
+        System.out.print("Repository metrics:\n" + RepositoryMetrics.report());
+    }
+
 
     public static void main(String[] args) {
         launch(args);
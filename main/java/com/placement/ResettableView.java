@@ -0,0 +1,7 @@
+package com.placement;
+
+// Implemented by controllers of cached views that hold no session state but must be cleared
+// (typed input, selections) each time SceneManager shows them again
+public interface ResettableView {
+    void reset();
+}
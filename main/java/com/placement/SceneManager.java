@@ -4,11 +4,38 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
-import com.placement.controllers.candidate.ProfileController;
+import com.placement.services.Session;
+import com.placement.services.SessionManager;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
+// Parses each FXML view once and swaps cached roots into a single Scene, so navigation does not
+// re-parse FXML, re-resolve the stylesheet or leave old scenes (and their listeners) behind.
 public class SceneManager {
+    private static final double WIDTH = 1520;
+    private static final double HEIGHT = 800;
+
+    private static final String LOGIN_VIEW = "/views/login.fxml";
+    private static final String SIGNUP_VIEW = "/views/signup.fxml";
+    private static final String CANDIDATE_DASHBOARD_VIEW = "/views/candidate/dashboard.fxml";
+    private static final String RECRUITER_DASHBOARD_VIEW = "/views/recruiter/dashboard.fxml";
+    private static final String CANDIDATE_PROFILE_VIEW = "/views/candidate/profile.fxml";
+
+    private static final Map<String, View> views = new HashMap<>();
     private static Stage primaryStage;
+    private static Scene scene;
+    private static Dashboard currentDashboard;
+
+    private static class View {
+        final Parent root;
+        final Object controller;
+
+        View(Parent root, Object controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+    }
 
     public static void setPrimaryStage(Stage stage) {
         primaryStage = stage;
@@ -16,72 +43,85 @@ public class SceneManager {
     }
 
     public static void loadLoginPage() throws IOException {
-        loadScene("/views/login.fxml", "Login - Placement Consultancy System");
+        showView(LOGIN_VIEW, "Login - Placement Consultancy System", null);
     }
 
     public static void loadSignUpPage() throws IOException {
-        loadScene("/views/signup.fxml", "Sign Up - Placement Consultancy System");
+        showView(SIGNUP_VIEW, "Sign Up - Placement Consultancy System", null);
     }
 
-    public static void loadCandidateDashboard(String userId) throws IOException {
-        loadDashboard("/views/candidate/dashboard.fxml", "Candidate Dashboard", userId);
+    public static void loadCandidateDashboard(Session session) throws IOException {
+        showView(CANDIDATE_DASHBOARD_VIEW, "Candidate Dashboard - Placement Consultancy System", session);
     }
 
-    public static void loadRecruiterDashboard(String userId) throws IOException {
-        loadDashboard("/views/recruiter/dashboard.fxml", "Recruiter Dashboard", userId);
+    public static void loadRecruiterDashboard(Session session) throws IOException {
+        showView(RECRUITER_DASHBOARD_VIEW, "Recruiter Dashboard - Placement Consultancy System", session);
     }
 
-    public static void loadCandidateProfile(String userId) throws IOException {
-        FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource("/views/candidate/profile.fxml"));
-        Parent root = loader.load();
+    public static void loadCandidateProfile(Session session) throws IOException {
+        showView(CANDIDATE_PROFILE_VIEW, "Edit Profile - Placement Consultancy System", session);
+    }
 
-        ProfileController controller = loader.getController();
-        if (controller != null) {
-            controller.initializeData(userId);
-        } else {
-            System.err.println("Controller is null for profile");
+    // Parses the remaining views ahead of first use; call on the FX thread once the first screen is up
+    public static void preloadViews() {
+        for (String fxmlPath : new String[] {SIGNUP_VIEW, CANDIDATE_DASHBOARD_VIEW, RECRUITER_DASHBOARD_VIEW, CANDIDATE_PROFILE_VIEW}) {
+            try {
+                view(fxmlPath);
+            } catch (IOException e) {
+                System.err.println("Failed to preload " + fxmlPath + ": " + e.getMessage());
+            }
         }
-
-        Scene scene = new Scene(root, 1520, 800);
-        scene.getStylesheets().add(SceneManager.class.getResource("/styles/main.css").toExternalForm());
-
-        primaryStage.setScene(scene);
-        primaryStage.setTitle("Edit Profile - Placement Consultancy System");
-        primaryStage.show();
     }
 
     // New logout method
     public static void logout() throws IOException {
+        SessionManager.end();
         loadLoginPage();
     }
 
-    private static void loadScene(String fxmlPath, String title) throws IOException {
-        FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource(fxmlPath));
-        Parent root = loader.load();
-        Scene scene = new Scene(root, 1520, 800);
-        scene.getStylesheets().add(SceneManager.class.getResource("/styles/main.css").toExternalForm());
+    private static void showView(String fxmlPath, String title, Session session) throws IOException {
+        View view = view(fxmlPath);
+        disposeCurrentDashboard();
 
-        primaryStage.setScene(scene);
+        if (view.controller instanceof ResettableView) {
+            ((ResettableView) view.controller).reset();
+        }
+        if (session != null) {
+            if (view.controller instanceof Dashboard) {
+                currentDashboard = (Dashboard) view.controller;
+                currentDashboard.initializeData(session);
+            } else {
+                System.err.println("Controller is null for " + fxmlPath);
+            }
+        }
+
+        if (scene == null) {
+            scene = new Scene(view.root, WIDTH, HEIGHT);
+            scene.getStylesheets().add(SceneManager.class.getResource("/styles/main.css").toExternalForm());
+            primaryStage.setScene(scene);
+        } else if (scene.getRoot() != view.root) {
+            scene.setRoot(view.root);
+        }
         primaryStage.setTitle(title);
         primaryStage.show();
     }
 
-    private static void loadDashboard(String fxmlPath, String title, String userId) throws IOException {
-        FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource(fxmlPath));
-        Parent root = loader.load();
-
-        Dashboard controller = loader.getController();
-        if (controller != null) {
-            controller.initializeData(userId);
-        } else {
-            System.err.println("Controller is null for dashboard");
+    private static View view(String fxmlPath) throws IOException {
+        View view = views.get(fxmlPath);
+        if (view == null) {
+            FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource(fxmlPath));
+            Parent root = loader.load();
+            view = new View(root, loader.getController());
+            views.put(fxmlPath, view);
         }
+        return view;
+    }
 
-        Scene scene = new Scene(root, 1520, 800);
-        scene.getStylesheets().add(SceneManager.class.getResource("/styles/main.css").toExternalForm());
-
-        primaryStage.setScene(scene);
-        primaryStage.setTitle(title + " - Placement Consultancy System");
-        primaryStage.show();
+    // Detaches the outgoing dashboard's Firestore listeners before its root is swapped out
+    private static void disposeCurrentDashboard() {
+        if (currentDashboard != null) {
+            currentDashboard.dispose();
+            currentDashboard = null;
+        }
     }
-}
\ No newline at end of file
+}
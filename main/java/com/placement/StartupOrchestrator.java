@@ -0,0 +1,88 @@
+package com.placement;
+
+import com.placement.services.AsyncService;
+import com.placement.services.FirebaseService;
+import com.placement.services.OfferWriteQueue;
+import com.placement.services.replica.LocalReplica;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+
+// Brings the login screen up first and does the slow work around it: Firebase initialization and
+// the Firestore channel handshake run on a background thread while the FX thread preloads the
+// other views. Each phase logs how long it took.
+public class StartupOrchestrator {
+    private final long startNanos = System.nanoTime();
+
+    public void start(Stage primaryStage) throws IOException {
+        CompletableFuture<Void> backend = FirebaseService.initializeAsync()
+            .thenRun(() -> logPhase("Firebase initialization", startNanos))
+            .thenRun(this::warmUpChannel)
+            .thenRun(() -> timed("Offer write queue replay", OfferWriteQueue::start));
+
+        // Replay the local replica logs while the login form is up, so dashboards open from disk
+        CompletableFuture.runAsync(() -> timed("Local replica load", () -> {
+            LocalReplica.candidates();
+            LocalReplica.offers();
+            LocalReplica.recruiters();
+        }), AsyncService.executor());
+
+        timed("Login view", () -> {
+            SceneManager.setPrimaryStage(primaryStage);
+            SceneManager.loadLoginPage();
+        });
+
+        Platform.runLater(() -> {
+            System.out.println("Startup: first frame after " + (System.nanoTime() - startNanos) / 1_000_000
+                + " ms (JVM uptime " + ManagementFactory.getRuntimeMXBean().getUptime() + " ms)");
+            timed("View preload", SceneManager::preloadViews);
+        });
+
+        backend.whenComplete((ignored, error) -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                System.err.println("Startup: backend initialization failed: " + cause.getMessage());
+                Platform.runLater(() -> showError("Failed to initialize Firebase: " + cause.getMessage()));
+            } else {
+                logPhase("Backend ready", startNanos);
+            }
+        });
+    }
+
+    private void warmUpChannel() {
+        long phaseStart = System.nanoTime();
+        try {
+            FirebaseService.warmUpChannel();
+            logPhase("Firestore channel warm-up", phaseStart);
+        } catch (Exception e) {
+            // Not fatal: the first real query will open the channel instead
+            System.err.println("Startup: Firestore channel warm-up failed: " + e.getMessage());
+        }
+    }
+
+    private interface Phase<E extends Exception> {
+        void run() throws E;
+    }
+
+    private static <E extends Exception> void timed(String name, Phase<E> phase) throws E {
+        long phaseStart = System.nanoTime();
+        phase.run();
+        logPhase(name, phaseStart);
+    }
+
+    private static void logPhase(String name, long phaseStart) {
+        System.out.println("Startup: " + name + " took " + (System.nanoTime() - phaseStart) / 1_000_000 + " ms");
+    }
+
+    private static void showError(String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Error");
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
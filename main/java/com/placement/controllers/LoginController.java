@@ -1,11 +1,11 @@
 package com.placement.controllers;
 
+import com.placement.ResettableView;
 import com.placement.SceneManager;
+import com.placement.services.AsyncService;
+import com.placement.services.AuthResult;
 import com.placement.services.AuthService;
-import com.placement.services.FirebaseService;
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.Firestore;
-import com.google.cloud.firestore.QuerySnapshot;
+import com.placement.services.SessionManager;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -16,20 +16,21 @@ import javafx.stage.Modality;
 import java.io.IOException;
 import java.util.Optional;
 
-public class LoginController {
+public class LoginController implements ResettableView {
 
     @FXML private TextField emailField;
     @FXML private PasswordField passwordField;
 
     @FXML
     private void initialize() {
+        // Firebase is brought up in the background by StartupOrchestrator
         System.out.println("LoginController initialized");
-        try {
-            FirebaseService.initialize();
-        } catch (IOException e) {
-            System.err.println("Failed to initialize Firebase: " + e.getMessage());
-            showAlert("Error", "Failed to initialize Firebase: " + e.getMessage());
-        }
+    }
+
+    @Override
+    public void reset() {
+        emailField.clear();
+        passwordField.clear();
     }
 
     @FXML
@@ -42,34 +43,40 @@ public class LoginController {
             return;
         }
 
-        new Thread(() -> {
-            String userId = AuthService.authenticateUser(email, password);
+        AsyncService.submit(() -> {
+            AuthResult result;
+            try {
+                result = AuthService.login(email, password); // waits for Firebase if startup is still warming it
+            } catch (IllegalStateException e) {
+                Platform.runLater(() -> showAlert("Error", e.getMessage()));
+                return;
+            }
             Platform.runLater(() -> {
-                if (userId != null) {
-                    String role = fetchRoleFromDatabase(email, userId);
-                    if (role == null) {
-                        showAlert("Error", "Could not determine user role.");
-                        return;
-                    }
-                    try {
-                        switch (role.toLowerCase()) {
-                            case "candidate":
-                                SceneManager.loadCandidateDashboard(userId);
-                                break;
-                            case "recruiter":
-                                SceneManager.loadRecruiterDashboard(userId);
-                                break;
-                            default:
-                                showAlert("Error", "Unknown role: " + role);
-                        }
-                    } catch (IOException e) {
-                        showAlert("Error", "Error loading dashboard: " + e.getMessage());
-                    }
-                } else {
+                if (result == null) {
                     showAlert("Error", "Invalid credentials");
+                    return;
+                }
+                String role = result.getRole();
+                if (role == null) {
+                    showAlert("Error", "Could not determine user role.");
+                    return;
+                }
+                try {
+                    switch (role.toLowerCase()) {
+                        case "candidate":
+                            SceneManager.loadCandidateDashboard(SessionManager.start(result));
+                            break;
+                        case "recruiter":
+                            SceneManager.loadRecruiterDashboard(SessionManager.start(result));
+                            break;
+                        default:
+                            showAlert("Error", "Unknown role: " + role);
+                    }
+                } catch (IOException e) {
+                    showAlert("Error", "Error loading dashboard: " + e.getMessage());
                 }
             });
-        }).start();
+        });
     }
 
     @FXML
@@ -132,7 +139,7 @@ public class LoginController {
             String email = emailInput.getText().trim();
             String newPassword = newPasswordField.getText();
 
-            new Thread(() -> {
+            AsyncService.submit(() -> {
                 try {
                     boolean success = AuthService.resetPassword(email, newPassword);
                     Platform.runLater(() -> {
@@ -147,7 +154,7 @@ public class LoginController {
                         showAlert("Error", "Error resetting password: " + e.getMessage())
                     );
                 }
-            }).start();
+            });
         }
     }
 
@@ -160,23 +167,6 @@ public class LoginController {
         }
     }
 
-    private String fetchRoleFromDatabase(String email, String userId) {
-        try {
-            Firestore db = FirebaseService.getFirestore();
-            ApiFuture<QuerySnapshot> query = db.collection("users")
-                .whereEqualTo("email", email)
-                .get();
-            QuerySnapshot result = query.get();
-            if (!result.isEmpty()) {
-                return result.getDocuments().get(0).getString("role");
-            }
-            return null;
-        } catch (Exception e) {
-            System.err.println("Error fetching role: " + e.getMessage());
-            return null;
-        }
-    }
-
     private void showAlert(String title, String message) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         if ("Error".equals(title)) {
@@ -1,6 +1,8 @@
 package com.placement.controllers;
 
+import com.placement.ResettableView;
 import com.placement.SceneManager;
+import com.placement.services.AsyncService;
 import com.placement.services.AuthService;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -13,7 +15,7 @@ import javafx.scene.layout.VBox;
 
 import java.io.IOException;
 
-public class SignUpController {
+public class SignUpController implements ResettableView {
 
     @FXML private TextField nameField;
     @FXML private TextField emailField;
@@ -45,6 +47,18 @@ public class SignUpController {
         });
     }
 
+    @Override
+    public void reset() {
+        nameField.clear();
+        emailField.clear();
+        passwordField.clear();
+        confirmPasswordField.clear();
+        roleCombo.setValue("Candidate");
+        if (companyField != null) {
+            companyField.clear();
+        }
+    }
+
     @FXML
     private void handleSignUp(ActionEvent event) {
         String name = nameField.getText().trim();
@@ -69,7 +83,7 @@ public class SignUpController {
             return;
         }
 
-        new Thread(() -> {
+        AsyncService.submit(() -> {
             String userId;
             if ("Recruiter".equals(role)) {
                 userId = AuthService.registerRecruiter(
@@ -99,7 +113,7 @@ public class SignUpController {
                     showAlert("Error", "Registration failed. Email may already be in use.");
                 }
             });
-        }).start();
+        });
     }
 
     @FXML
@@ -1,15 +1,17 @@
 package com.placement.controllers.candidate;
 
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.DocumentSnapshot;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.ListenerRegistration;
 import com.google.cloud.Timestamp;
 import com.placement.Dashboard;
 import com.placement.SceneManager;
 import com.placement.models.Offer;
+import com.placement.services.AsyncService;
 import com.placement.services.AuthService;
-import com.placement.services.FirebaseService;
+import com.placement.services.OfferFeed;
+import com.placement.services.OfferWriteQueue;
+import com.placement.services.RecruiterDirectory;
+import com.placement.services.Session;
+import com.placement.services.repository.OfferRepository;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -23,7 +25,10 @@ import javafx.scene.text.Text;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 public class DashboardController implements Dashboard {
@@ -38,77 +43,79 @@ public class DashboardController implements Dashboard {
     @FXML private ProgressIndicator loadingIndicator; // Added loading indicator
 
     private ObservableList<Offer> offersData = FXCollections.observableArrayList();
+    private Session session;
     private String userId;
+    private static final long OFFERS_RETRY_BASE_MILLIS = 2000;
+    private static final long OFFERS_RETRY_MAX_MILLIS = 60_000;
+    private ListenerRegistration offersRegistration;
+    private ScheduledFuture<?> offersRetry;
+    private long offersRetryMillis = OFFERS_RETRY_BASE_MILLIS;
+    private final BiConsumer<String, String> offerWriteFailureListener = this::onOfferWriteFailed;
 
     @Override
-    public void initializeData(String userId) {
-        this.userId = userId;
-        loadCandidateName(userId);
+    public void initializeData(Session session) {
+        this.session = session;
+        this.userId = session.getUserId();
+        OfferWriteQueue.addFailureListener(offerWriteFailureListener);
+        showCandidateName();
         loadOffers();
     }
 
-    private void loadCandidateName(String userId) {
-        loadingIndicator.setVisible(true); // Show loading indicator
-        ApiFuture<DocumentSnapshot> future = FirebaseService.getFirestore()
-            .collection("users")
-            .document(userId)
-            .get();
-
-        future.addListener(() -> {
-            try {
-                DocumentSnapshot document = future.get();
-                String name = document.getString("name");
-                Platform.runLater(() -> {
-                    welcomeLabel.setText("Welcome, " + (name != null ? name : "Candidate"));
-                    loadingIndicator.setVisible(false); // Hide loading indicator
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    welcomeLabel.setText("Welcome, Candidate");
-                    System.err.println("Error loading candidate name: " + e.getMessage());
-                    loadingIndicator.setVisible(false); // Hide even on error
-                });
-            }
-        }, Executors.newFixedThreadPool(4));
+    private void showCandidateName() {
+        String name = session.getName();
+        welcomeLabel.setText("Welcome, " + (name != null ? name : "Candidate"));
     }
 
     private void loadOffers() {
+        offersRetry = null;
+        if (offersRegistration != null) return;
         loadingIndicator.setVisible(true); // Show loading indicator
-        ApiFuture<QuerySnapshot> future = FirebaseService.getFirestore()
-            .collection("offers")
-            .whereEqualTo("candidateId", userId)
-            .get();
-
-        future.addListener(() -> {
-            try {
-                QuerySnapshot snapshot = future.get();
-                List<QueryDocumentSnapshot> documents = snapshot.getDocuments();
-                Platform.runLater(() -> {
-                    offersData.setAll(documents.stream()
-                        .map(doc -> {
-                            Offer offer = doc.toObject(Offer.class);
-                            offer.setId(doc.getId());
-                            return offer;
-                        })
-                        .collect(Collectors.toList()));
-                    offersTable.setItems(offersData);
-                    loadingIndicator.setVisible(false); // Hide loading indicator
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    System.err.println("Error loading offers: " + e.getMessage());
-                    showAlert("Error", "Failed to load offers: " + e.getMessage());
-                    loadingIndicator.setVisible(false); // Hide even on error
-                });
-            }
-        }, Executors.newFixedThreadPool(4));
+        offersRegistration = OfferFeed.listen(OfferRepository.forCandidate(userId), offer -> userId.equals(offer.getCandidateId()), offersData, changed -> {
+            offersRetryMillis = OFFERS_RETRY_BASE_MILLIS;
+            warmRecruiterDirectory(changed);
+            loadingIndicator.setVisible(false); // Hide loading indicator
+        }, e -> {
+            System.err.println("Error loading offers: " + e.getMessage());
+            // Only the first failure of a run is reported; the retries keep going quietly
+            if (offersRetryMillis == OFFERS_RETRY_BASE_MILLIS) showAlert("Error", "Failed to load offers: " + e.getMessage());
+            loadingIndicator.setVisible(false); // Hide even on error
+            retryOffers();
+        });
+    }
+
+    // A listener that failed never fires again, so drop it and attach a new one after a backoff
+    private void retryOffers() {
+        if (offersRegistration != null) {
+            offersRegistration.remove();
+            offersRegistration = null;
+        }
+        long delay = offersRetryMillis;
+        offersRetryMillis = Math.min(offersRetryMillis * 2, OFFERS_RETRY_MAX_MILLIS);
+        offersRetry = AsyncService.schedule(() -> Platform.runLater(() -> {
+            if (offersRetry != null) loadOffers(); // cleared by dispose()
+        }), delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void dispose() {
+        OfferWriteQueue.removeFailureListener(offerWriteFailureListener);
+        if (offersRetry != null) {
+            offersRetry.cancel(false);
+            offersRetry = null;
+        }
+        offersRetryMillis = OFFERS_RETRY_BASE_MILLIS;
+        if (offersRegistration != null) {
+            offersRegistration.remove();
+            offersRegistration = null;
+        }
+        offersData.clear(); // the view is cached and rebound for the next login
     }
 
     @FXML
     private void initialize() {
         recruiterColumn.setCellValueFactory(cellData -> {
             Offer offer = cellData.getValue();
-            return new SimpleStringProperty(getCompanyName(offer.getRecruiterId()));
+            return new SimpleStringProperty(RecruiterDirectory.getCompanyName(offer.getRecruiterId()));
         });
 
         statusColumn.setCellValueFactory(new PropertyValueFactory<>("status"));
@@ -141,20 +148,11 @@ public class DashboardController implements Dashboard {
         offersTable.setItems(offersData);
     }
 
-    private String getCompanyName(String recruiterId) {
-        if (recruiterId == null || recruiterId.isEmpty()) return "No Company Specified";
-        try {
-            DocumentSnapshot document = FirebaseService.getFirestore()
-                .collection("recruiters")
-                .document(recruiterId)
-                .get()
-                .get();
-            String companyName = document.getString("companyName");
-            return companyName != null && !companyName.isEmpty() ? companyName : "No Company Name";
-        } catch (Exception e) {
-            System.err.println("Error fetching company name: " + e.getMessage());
-            return "Error Loading Company";
-        }
+    private void warmRecruiterDirectory(List<Offer> offers) {
+        Set<String> recruiterIds = offers.stream()
+            .map(Offer::getRecruiterId)
+            .collect(Collectors.toSet());
+        RecruiterDirectory.warm(recruiterIds, () -> Platform.runLater(() -> offersTable.refresh()));
     }
 
     private void handleOfferAction(Offer offer, String newStatus) {
@@ -163,37 +161,37 @@ public class DashboardController implements Dashboard {
             return;
         }
 
-        loadingIndicator.setVisible(true); // Show loading indicator
+        // Update the row right away; the write is retried in the background and rolled back if it keeps failing
+        String previousStatus = offer.getStatus();
         offer.setStatus(newStatus);
         offer.setTimestamp(Timestamp.now());
+        replaceOffer(offer);
+        OfferWriteQueue.enqueueStatus(offer.getId(), newStatus, previousStatus);
+    }
 
-        ApiFuture<com.google.cloud.firestore.WriteResult> future = FirebaseService.getFirestore()
-            .collection("offers")
-            .document(offer.getId())
-            .update("status", newStatus, "timestamp", Timestamp.now());
-
-        future.addListener(() -> {
-            try {
-                future.get();
-                Platform.runLater(() -> {
-                    showAlert("Success", "Offer " + newStatus.toLowerCase() + " successfully.");
-                    loadOffers(); // Refresh the table
-                    loadingIndicator.setVisible(false); // Hide loading indicator
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    showAlert("Error", "Failed to update offer status: " + e.getMessage());
-                    System.err.println("Error updating offer: " + e.getMessage());
-                    loadingIndicator.setVisible(false); // Hide even on error
-                });
+    private void onOfferWriteFailed(String offerId, String rollbackStatus) {
+        Platform.runLater(() -> {
+            for (Offer offer : offersData) {
+                if (offerId.equals(offer.getId())) {
+                    offer.setStatus(rollbackStatus);
+                    replaceOffer(offer);
+                    showAlert("Error", "Could not save your response to an offer. Its status has been reverted to "
+                        + (rollbackStatus != null ? rollbackStatus : "its previous value") + ".");
+                    return;
+                }
             }
-        }, Executors.newFixedThreadPool(4));
+        });
+    }
+
+    private void replaceOffer(Offer offer) {
+        int index = offersData.indexOf(offer);
+        if (index >= 0) offersData.set(index, offer); // fires an update so the row re-renders
     }
 
     @FXML
     private void handleEditProfile(ActionEvent event) {
         try {
-            SceneManager.loadCandidateProfile(userId);
+            SceneManager.loadCandidateProfile(session);
         } catch (IOException e) {
             System.err.println("Error loading candidate profile: " + e.getMessage());
         }
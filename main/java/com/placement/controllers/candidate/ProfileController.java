@@ -1,23 +1,23 @@
 package com.placement.controllers.candidate;
 
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.DocumentSnapshot;
 import com.google.cloud.firestore.WriteResult;
+import com.placement.Dashboard;
 import com.placement.SceneManager;
 import com.placement.models.Candidate;
+import com.placement.services.AsyncService;
 import com.placement.services.AuthService;
-import com.placement.services.FirebaseService;
+import com.placement.services.Session;
+import com.placement.services.cv.CvBlob;
+import com.placement.services.cv.CvStorageService;
+import com.placement.services.repository.CandidateRepository;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.FileChooser;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.util.Base64;
-import java.util.concurrent.Executors;
 
-public class ProfileController {
+public class ProfileController implements Dashboard {
 
     @FXML private TextField nameField;
     @FXML private TextField emailField;
@@ -27,51 +27,51 @@ public class ProfileController {
     @FXML private ProgressIndicator loadingIndicator; // Added loading indicator
 
     private Candidate candidate;
+    private Session session;
     private String userId;
+    // Bumped by dispose() so callbacks for a view that is no longer shown are ignored
+    private int viewGeneration;
 
     @FXML
     private void initialize() {
         qualificationCombo.getItems().addAll("B.Tech", "M.Tech", "BE", "BCA", "MCA", "Diploma in CS", "Diploma in IT", "Diploma in BIOMED", "Diploma in MECH", "B.COM", "M.COM", "CA", "BA", "BBA", "LLB", "B.Ed", "Other");
     }
 
-    public void initializeData(String userId) {
-        this.userId = userId;
+    @Override
+    public void initializeData(Session session) {
+        this.session = session;
+        this.userId = session.getUserId();
         loadCandidateData();
     }
 
+    @Override
+    public void dispose() {
+        viewGeneration++;
+        candidate = null;
+        nameField.clear();
+        emailField.clear();
+        marksField.clear();
+        qualificationCombo.setValue(null);
+    }
+
+    // Served from the session; the network is only involved if its first snapshot is still pending
     private void loadCandidateData() {
         loadingIndicator.setVisible(true); // Show loading indicator
-        ApiFuture<DocumentSnapshot> future = FirebaseService.getFirestore()
-            .collection("candidates")
-            .document(userId)
-            .get();
-
-        future.addListener(() -> {
-            try {
-                DocumentSnapshot document = future.get();
-                candidate = document.toObject(Candidate.class);
-                if (candidate != null) {
-                    Platform.runLater(() -> {
-                        nameField.setText(candidate.getName() != null ? candidate.getName() : "");
-                        emailField.setText(candidate.getEmail() != null ? candidate.getEmail() : "");
-                        marksField.setText(String.valueOf(candidate.getMarks()));
-                        qualificationCombo.setValue(candidate.getQualification() != null ? candidate.getQualification() : "");
-                        loadingIndicator.setVisible(false); // Hide loading indicator
-                    });
-                } else {
-                    Platform.runLater(() -> {
-                        candidate = new Candidate();
-                        candidate.setId(userId);
-                        loadingIndicator.setVisible(false); // Hide loading indicator
-                    });
-                }
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    showAlert("Error", "Failed to load profile: " + e.getMessage());
-                    loadingIndicator.setVisible(false); // Hide even on error
-                });
+        int generation = viewGeneration;
+        session.whenCandidateReady(loaded -> {
+            if (generation != viewGeneration) return;
+            candidate = loaded;
+            if (candidate != null) {
+                nameField.setText(candidate.getName() != null ? candidate.getName() : "");
+                emailField.setText(candidate.getEmail() != null ? candidate.getEmail() : "");
+                marksField.setText(String.valueOf(candidate.getMarks()));
+                qualificationCombo.setValue(candidate.getQualification() != null ? candidate.getQualification() : "");
+            } else {
+                candidate = new Candidate();
+                candidate.setId(userId);
             }
-        }, Executors.newFixedThreadPool(4));
+            loadingIndicator.setVisible(false); // Hide loading indicator
+        });
     }
 
     @FXML
@@ -82,37 +82,35 @@ public class ProfileController {
 
         File file = fileChooser.showOpenDialog(null);
         if (file != null) {
-            try {
-                byte[] fileContent = Files.readAllBytes(file.toPath());
-                String base64CV = Base64.getEncoder().encodeToString(fileContent);
+            loadingIndicator.setVisible(true); // Show loading indicator
+            int generation = viewGeneration;
+            AsyncService.submit(() -> {
+                try {
+                    CvBlob blob = CvStorageService.getStorage().write(file.toPath(), CvStorageService.PDF_MIME_TYPE);
 
-                if (candidate == null) candidate = new Candidate();
-                candidate.setId(userId);
-                candidate.setCvUrl(base64CV);
-
-                loadingIndicator.setVisible(true); // Show loading indicator
-                ApiFuture<WriteResult> future = FirebaseService.getFirestore()
-                    .collection("candidates")
-                    .document(userId)
-                    .update("cvUrl", base64CV);
-
-                future.addListener(() -> {
-                    try {
-                        WriteResult result = future.get();
-                        Platform.runLater(() -> {
-                            showAlert("Success", "CV uploaded successfully! At " + result.getUpdateTime());
-                            loadingIndicator.setVisible(false); // Hide loading indicator
-                        });
-                    } catch (Exception e) {
-                        Platform.runLater(() -> {
-                            showAlert("Error", "Error uploading CV: " + e.getMessage());
-                            loadingIndicator.setVisible(false); // Hide even on error
-                        });
-                    }
-                }, Executors.newFixedThreadPool(4));
-            } catch (Exception e) {
-                Platform.runLater(() -> showAlert("Error", "Error uploading CV: " + e.getMessage()));
-            }
+                    // Only the descriptor lives on the candidate; the content stays in CV storage
+                    WriteResult result = CandidateRepository.updateCv(userId, blob).get();
+
+                    Platform.runLater(() -> {
+                        if (generation != viewGeneration) return;
+                        Candidate updated = copyProfile();
+                        updated.setCvUrl(null);
+                        updated.setLegacyCv(false);
+                        updated.setCvHash(blob.getHash());
+                        updated.setCvSize(blob.getSize());
+                        updated.setCvMimeType(blob.getMimeType());
+                        candidate = updated;
+                        session.applyCandidate(updated);
+                        showAlert("Success", "CV uploaded successfully! At " + result.getUpdateTime());
+                        loadingIndicator.setVisible(false); // Hide loading indicator
+                    });
+                } catch (Exception e) {
+                    Platform.runLater(() -> {
+                        showAlert("Error", "Error uploading CV: " + e.getMessage());
+                        loadingIndicator.setVisible(false); // Hide even on error
+                    });
+                }
+            });
         }
     }
 
@@ -137,43 +135,56 @@ public class ProfileController {
                 return;
             }
 
-            if (candidate == null) candidate = new Candidate();
-            candidate.setId(userId);
-            candidate.setName(nameField.getText());
-            candidate.setEmail(emailField.getText());
-            candidate.setMarks(marks);
-            candidate.setQualification(qualificationCombo.getValue());
+            // The session's candidate only changes once the save has succeeded
+            Candidate edited = copyProfile();
+            edited.setName(nameField.getText());
+            edited.setEmail(emailField.getText());
+            edited.setMarks(marks);
+            edited.setQualification(qualificationCombo.getValue());
 
             loadingIndicator.setVisible(true); // Show loading indicator
-            ApiFuture<WriteResult> future = FirebaseService.getFirestore()
-                .collection("candidates")
-                .document(userId)
-                .set(candidate);
-
-            future.addListener(() -> {
+            int generation = viewGeneration;
+            CandidateRepository.save(edited).whenComplete((result, error) -> Platform.runLater(() -> {
+                if (generation != viewGeneration) return;
+                if (error != null) {
+                    showAlert("Error", "Error saving profile: " + error.getMessage());
+                    loadingIndicator.setVisible(false); // Hide even on error
+                    return;
+                }
+                showAlert("Success", "Profile saved successfully! At " + result.getUpdateTime());
+                candidate = edited;
+                session.applyCandidate(edited);
                 try {
-                    WriteResult result = future.get();
-                    Platform.runLater(() -> {
-                        showAlert("Success", "Profile saved successfully! At " + result.getUpdateTime());
-                        try {
-                            SceneManager.loadCandidateDashboard(userId);
-                        } catch (IOException e) {
-                            showAlert("Error", "Failed to load dashboard: " + e.getMessage());
-                        }
-                        loadingIndicator.setVisible(false); // Hide loading indicator
-                    });
-                } catch (Exception e) {
-                    Platform.runLater(() -> {
-                        showAlert("Error", "Error saving profile: " + e.getMessage());
-                        loadingIndicator.setVisible(false); // Hide even on error
-                    });
+                    SceneManager.loadCandidateDashboard(session);
+                } catch (IOException e) {
+                    showAlert("Error", "Failed to load dashboard: " + e.getMessage());
                 }
-            }, Executors.newFixedThreadPool(4));
+                loadingIndicator.setVisible(false); // Hide loading indicator
+            }));
         } catch (Exception e) {
             showAlert("Error", "Error saving profile: " + e.getMessage());
         }
     }
 
+    // A fresh copy of the loaded profile, so edits never touch the instance the session handed out
+    private Candidate copyProfile() {
+        Candidate copy = new Candidate();
+        copy.setId(userId);
+        if (candidate != null) {
+            copy.setName(candidate.getName());
+            copy.setEmail(candidate.getEmail());
+            copy.setMarks(candidate.getMarks());
+            copy.setQualification(candidate.getQualification());
+            copy.setCvUrl(candidate.getCvUrl());
+            copy.setLegacyCv(candidate.hasLegacyCv());
+            copy.setCvHash(candidate.getCvHash());
+            copy.setCvSize(candidate.getCvSize());
+            copy.setCvMimeType(candidate.getCvMimeType());
+            copy.setUpdatedAt(candidate.getUpdatedAt());
+        }
+        return copy;
+    }
+
     @FXML
     private void handleLogout() {
         try {
@@ -1,40 +1,68 @@
 package com.placement.controllers.recruiter;
 
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.DocumentSnapshot;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.ListenerRegistration;
 import com.placement.Dashboard;
 import com.placement.SceneManager;
 import com.placement.models.Candidate;
+import com.placement.models.CandidateRow;
 import com.placement.models.Offer;
+import com.placement.services.AsyncService;
 import com.placement.services.AuthService;
-import com.placement.services.FirebaseService;
+import com.placement.services.CandidateNameService;
+import com.placement.services.CandidatePageSource;
+import com.placement.services.CandidateQuery;
+import com.placement.services.OfferFeed;
+import com.placement.services.Session;
+import com.placement.services.cv.CvCache;
+import com.placement.services.cv.CvStorageService;
+import com.placement.services.importer.CandidateImporter;
+import com.placement.services.importer.ImportProgress;
+import com.placement.services.repository.CandidateRepository;
+import com.placement.services.repository.OfferRepository;
+import com.placement.services.search.CandidateSearch;
+import com.placement.services.search.CandidateSearchIndex;
+import com.placement.services.search.CandidateSearchService;
 import com.google.cloud.Timestamp;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Base64;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Executors;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class RecruiterDashboardController implements Dashboard {
 
-    @FXML private TableView<Candidate> candidatesTable;
-    @FXML private TableColumn<Candidate, String> nameColumn;
-    @FXML private TableColumn<Candidate, Double> marksColumn;
-    @FXML private TableColumn<Candidate, String> qualificationColumn;
-    @FXML private TableColumn<Candidate, Void> cvColumn;
+    @FXML private TableView<CandidateRow> candidatesTable;
+    @FXML private TableColumn<CandidateRow, String> nameColumn;
+    @FXML private TableColumn<CandidateRow, Double> marksColumn;
+    @FXML private TableColumn<CandidateRow, String> qualificationColumn;
+    @FXML private TableColumn<CandidateRow, Void> cvColumn;
+    @FXML private TextField nameFilter;
     @FXML private TextField minMarksField;
     @FXML private ComboBox<String> qualificationFilter;
     @FXML private TableView<Offer> offersTable;
@@ -43,24 +71,41 @@ public class RecruiterDashboardController implements Dashboard {
     @FXML private TableColumn<Offer, Double> salaryOfferColumn;
     @FXML private Button logoutButton;
     @FXML private ProgressIndicator loadingIndicator; // Added loading indicator
-
-    private ObservableList<Candidate> candidatesData = FXCollections.observableArrayList();
-    private ObservableList<Candidate> filteredCandidates = FXCollections.observableArrayList();
+    @FXML private Label candidateCountLabel;
+    @FXML private Button importButton;
+    @FXML private Label importStatusLabel;
+
+    private static final int PREFETCH_ROWS = 10;
+    private static final Duration FILTER_DEBOUNCE = Duration.millis(250);
+    private static final long OFFERS_RETRY_BASE_MILLIS = 2000;
+    private static final long OFFERS_RETRY_MAX_MILLIS = 60_000;
+
+    private final CandidatePageSource candidatePages = new CandidatePageSource();
+    private final FilteredList<CandidateRow> filteredCandidates = new FilteredList<>(candidatePages.getItems());
+    private final SortedList<CandidateRow> sortedCandidates = new SortedList<>(filteredCandidates);
+    // Restarted on every keystroke; the filter runs once typing pauses
+    private final PauseTransition filterDebounce = new PauseTransition(FILTER_DEBOUNCE);
+    // Bumped for every new filter so results of superseded computations are dropped
+    private final AtomicInteger filterGeneration = new AtomicInteger();
     private ObservableList<Offer> offersData = FXCollections.observableArrayList();
     private String recruiterId;
+    private ListenerRegistration offersRegistration;
+    private ScheduledFuture<?> offersRetry;
+    private long offersRetryMillis = OFFERS_RETRY_BASE_MILLIS;
 
     @FXML
     private void initialize() {
+        // Cell value factories only run for visible cells, so rows off screen never get properties
         nameColumn.setCellValueFactory(cellData -> cellData.getValue().nameProperty());
         marksColumn.setCellValueFactory(cellData -> cellData.getValue().marksProperty().asObject());
-        qualificationColumn.setCellValueFactory(new PropertyValueFactory<>("qualification"));
+        qualificationColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().getQualification()));
 
         cvColumn.setCellFactory(param -> new TableCell<>() {
             private final Button viewCvButton = new Button("View CV");
 
             {
                 viewCvButton.setOnAction(event -> {
-                    Candidate candidate = getTableView().getItems().get(getIndex());
+                    CandidateRow candidate = getTableView().getItems().get(getIndex());
                     viewCandidateCV(candidate);
                 });
             }
@@ -72,14 +117,48 @@ public class RecruiterDashboardController implements Dashboard {
             }
         });
 
-        qualificationFilter.getItems().addAll("All", "B.Tech", "M.Tech", "BE", "BCA", "MCA", "Diploma in CS", "Diploma in IT", "Diploma in BIOMED", "Diploma in MECH", "B.COM", "M.COM", "CA", "BA", "BBA", "LLB", "B.Ed", "Other");
-        qualificationFilter.setValue("All");
-
-        candidatesTable.setItems(filteredCandidates);
+        qualificationFilter.getItems().addAll(CandidateQuery.ALL_QUALIFICATIONS, "B.Tech", "M.Tech", "BE", "BCA", "MCA", "Diploma in CS", "Diploma in IT", "Diploma in BIOMED", "Diploma in MECH", "B.COM", "M.COM", "CA", "BA", "BBA", "LLB", "B.Ed", "Other");
+        qualificationFilter.setValue(CandidateQuery.ALL_QUALIFICATIONS);
+
+        // Column sorting goes through the SortedList, so the table never replaces its items
+        sortedCandidates.comparatorProperty().bind(candidatesTable.comparatorProperty());
+        candidatesTable.setItems(sortedCandidates);
+        candidatesTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        filterDebounce.setOnFinished(event -> applyLiveFilter());
+        nameFilter.textProperty().addListener((obs, oldVal, newVal) -> filterDebounce.playFromStart());
+        minMarksField.textProperty().addListener((obs, oldVal, newVal) -> filterDebounce.playFromStart());
+        qualificationFilter.valueProperty().addListener((obs, oldVal, newVal) -> filterDebounce.playFromStart());
+        // Rows are only created for the visible part of the table, so this tracks what the user is looking at
+        candidatesTable.setRowFactory(table -> {
+            TableRow<CandidateRow> row = new TableRow<>() {
+                @Override
+                public void updateIndex(int index) {
+                    super.updateIndex(index);
+                    onCandidateRowShown(index);
+                }
+            };
+            row.setOnMouseClicked(event -> {
+                if (event.getClickCount() == 2 && !row.isEmpty()) showCandidateDetails(row.getItem());
+            });
+            return row;
+        });
+        // List pages only download the fields behind the declared columns (their userData)
+        candidatePages.setProjection(candidatesTable.getColumns().stream()
+            .map(TableColumn::getUserData)
+            .filter(Objects::nonNull)
+            .map(Object::toString)
+            .collect(Collectors.toList()));
+        candidatePages.setOnWindowShift(this::keepCandidateScrollPosition);
+        candidatePages.setOnError(e -> {
+            showAlert("Error", "Error loading candidates: " + e.getMessage());
+            loadingIndicator.setVisible(false); // Hide even on error
+        });
+        candidatePages.totalCountProperty().addListener((obs, oldVal, newVal) -> updateCandidateCount());
+        filteredCandidates.addListener((ListChangeListener<CandidateRow>) change -> updateCandidateCount());
 
         candidateNameColumn.setCellValueFactory(cellData -> {
             Offer offer = cellData.getValue();
-            return new SimpleStringProperty(getCandidateName(offer.getCandidateId()));
+            return new SimpleStringProperty(CandidateNameService.getCachedName(offer.getCandidateId()));
         });
         offerStatusColumn.setCellValueFactory(new PropertyValueFactory<>("status"));
         salaryOfferColumn.setCellValueFactory(new PropertyValueFactory<>("estimatedSalary"));
@@ -88,86 +167,174 @@ public class RecruiterDashboardController implements Dashboard {
     }
 
     @Override
-    public void initializeData(String userId) {
-        this.recruiterId = userId;
+    public void initializeData(Session session) {
+        this.recruiterId = session.getUserId();
         if (recruiterId == null) {
             showAlert("Error", "Recruiter ID is null. Please log in again.");
             return;
         }
+        AsyncService.submit(CandidateSearchService::index); // build the search index before the first filter
         loadCandidates();
         loadOffers();
     }
 
     private void loadCandidates() {
         loadingIndicator.setVisible(true); // Show loading indicator
-        ApiFuture<QuerySnapshot> future = FirebaseService.getFirestore()
-            .collection("candidates")
-            .get();
+        candidatePages.reset(CandidateQuery.all(), () -> loadingIndicator.setVisible(false));
+    }
 
-        future.addListener(() -> {
-            try {
-                QuerySnapshot snapshot = future.get();
-                List<QueryDocumentSnapshot> documents = snapshot.getDocuments();
-                Platform.runLater(() -> {
-                    candidatesData.setAll(documents.stream()
-                        .map(doc -> {
-                            Candidate candidate = doc.toObject(Candidate.class);
-                            candidate.setId(doc.getId());
-                            return candidate;
-                        })
-                        .collect(Collectors.toList()));
-                    filterCandidates();
-                    loadingIndicator.setVisible(false); // Hide loading indicator
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    showAlert("Error", "Error loading candidates: " + e.getMessage());
-                    loadingIndicator.setVisible(false); // Hide even on error
-                });
-            }
-        }, Executors.newFixedThreadPool(4));
+    // index is a table (sorted, filtered) position; paging works on positions in the page window
+    private void onCandidateRowShown(int index) {
+        if (index < 0 || index >= sortedCandidates.size()) return;
+        ObservableList<CandidateRow> window = candidatePages.getItems();
+        int windowIndex = sortedCandidates.getSourceIndexFor(window, index);
+        if (windowIndex >= window.size() - PREFETCH_ROWS) {
+            candidatePages.loadNext();
+        } else if (windowIndex < PREFETCH_ROWS) {
+            candidatePages.loadPrevious();
+        }
+    }
+
+    // Keeps the first visible row in view. shift is counted in window positions, which only match
+    // table positions when no column sort or filter is applied, so it is just the fallback when
+    // that row itself is dropped.
+    private void keepCandidateScrollPosition(int shift) {
+        VirtualFlow<?> flow = (VirtualFlow<?>) candidatesTable.lookup(".virtual-flow");
+        if (flow == null || flow.getFirstVisibleCell() == null) return;
+        int firstVisible = flow.getFirstVisibleCell().getIndex();
+        if (firstVisible < 0 || firstVisible >= sortedCandidates.size()) return;
+        CandidateRow anchor = sortedCandidates.get(firstVisible);
+        Platform.runLater(() -> {
+            int index = sortedCandidates.indexOf(anchor);
+            candidatesTable.scrollTo(index >= 0 ? index : Math.max(0, firstVisible + shift));
+        });
+    }
+
+    private void updateCandidateCount() {
+        long total = candidatePages.totalCountProperty().get();
+        candidateCountLabel.setText("Showing " + filteredCandidates.size() + " of "
+            + (total < 0 ? "..." : String.valueOf(total)) + " candidates");
     }
 
     private void loadOffers() {
+        offersRetry = null;
+        if (offersRegistration != null) return;
         loadingIndicator.setVisible(true); // Show loading indicator
-        ApiFuture<QuerySnapshot> future = FirebaseService.getFirestore()
-            .collection("offers")
-            .whereEqualTo("recruiterId", recruiterId)
-            .get();
+        offersRegistration = OfferFeed.listen(OfferRepository.forRecruiter(recruiterId), offer -> recruiterId.equals(offer.getRecruiterId()), offersData, changed -> {
+            offersRetryMillis = OFFERS_RETRY_BASE_MILLIS;
+            resolveCandidateNames(changed);
+            loadingIndicator.setVisible(false); // Hide loading indicator
+        }, e -> {
+            System.err.println("Error loading offers: " + e.getMessage());
+            // Only the first failure of a run is reported; the retries keep going quietly
+            if (offersRetryMillis == OFFERS_RETRY_BASE_MILLIS) showAlert("Error", "Error loading offers: " + e.getMessage());
+            loadingIndicator.setVisible(false); // Hide even on error
+            retryOffers();
+        });
+    }
 
-        future.addListener(() -> {
-            try {
-                QuerySnapshot snapshot = future.get();
-                List<QueryDocumentSnapshot> documents = snapshot.getDocuments();
-                Platform.runLater(() -> {
-                    offersData.setAll(documents.stream()
-                        .map(doc -> {
-                            Offer offer = doc.toObject(Offer.class);
-                            offer.setId(doc.getId());
-                            return offer;
-                        })
-                        .collect(Collectors.toList()));
-                    loadingIndicator.setVisible(false); // Hide loading indicator
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    showAlert("Error", "Error loading offers: " + e.getMessage());
-                    loadingIndicator.setVisible(false); // Hide even on error
-                });
-            }
-        }, Executors.newFixedThreadPool(4));
+    // A listener that failed never fires again, so drop it and attach a new one after a backoff
+    private void retryOffers() {
+        if (offersRegistration != null) {
+            offersRegistration.remove();
+            offersRegistration = null;
+        }
+        long delay = offersRetryMillis;
+        offersRetryMillis = Math.min(offersRetryMillis * 2, OFFERS_RETRY_MAX_MILLIS);
+        offersRetry = AsyncService.schedule(() -> Platform.runLater(() -> {
+            if (offersRetry != null) loadOffers(); // cleared by dispose()
+        }), delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void dispose() {
+        if (offersRetry != null) {
+            offersRetry.cancel(false);
+            offersRetry = null;
+        }
+        offersRetryMillis = OFFERS_RETRY_BASE_MILLIS;
+        if (offersRegistration != null) {
+            offersRegistration.remove();
+            offersRegistration = null;
+        }
+        // The view is cached, so drop this recruiter's data before it can be shown to the next login
+        offersData.clear();
+        nameFilter.clear();
+        minMarksField.clear();
+        qualificationFilter.setValue(CandidateQuery.ALL_QUALIFICATIONS);
+        // Clearing the fields above must not trigger a filter for the departed recruiter
+        filterDebounce.stop();
+        filterGeneration.incrementAndGet();
+        filteredCandidates.setPredicate(null);
     }
 
     private void filterCandidates() {
+        filterDebounce.stop();
         double minMarks = minMarksField.getText().isEmpty() ? 0 : Double.parseDouble(minMarksField.getText());
-        String qualification = qualificationFilter.getValue();
+        CandidateQuery query = CandidateQuery.of(minMarks, qualificationFilter.getValue());
+        CandidateSearch search = CandidateSearch.of(query, nameFilter.getText());
+        int generation = filterGeneration.incrementAndGet();
+
+        // With the full replica indexed, answer from memory when the whole result fits, or when a name
+        // prefix (which Firestore cannot match) is involved; otherwise page the live collection
+        if (CandidateSearchService.isReady()) {
+            AsyncService.submit(() -> {
+                if (generation != filterGeneration.get()) return;
+                CandidateSearchIndex.Result result = CandidateSearchService.search(search);
+                boolean useIndex = search.hasNamePrefix() || result.getTotalMatches() <= search.getLimit();
+                List<Candidate> candidates = useIndex ? CandidateSearchService.candidates(result) : null;
+                Platform.runLater(() -> {
+                    if (generation != filterGeneration.get()) return;
+                    if (useIndex) {
+                        filteredCandidates.setPredicate(null);
+                        candidatePages.showResults(query, candidates, result.getTotalMatches());
+                    } else {
+                        filterLoadedOrReload(query, search, generation);
+                    }
+                });
+            });
+            return;
+        }
+        filterLoadedOrReload(query, search, generation);
+    }
 
-        filteredCandidates.setAll(candidatesData.stream()
-            .filter(candidate -> candidate.getMarks() >= minMarks &&
-                (qualification.equals("All") || candidate.getQualification().equals(qualification)))
-            .collect(Collectors.toList()));
+    private void filterLoadedOrReload(CandidateQuery query, CandidateSearch search, int generation) {
+        // Only filter in memory when every candidate the new filter can match is already loaded.
+        // Matching runs in the background on copies of the rows, since the row store is FX-thread only;
+        // the FX thread only swaps in an id lookup as the predicate.
+        if (candidatePages.isComplete() && candidatePages.getQuery().covers(query)) {
+            List<Candidate> loaded = new ArrayList<>(candidatePages.getItems().size());
+            for (CandidateRow row : candidatePages.getItems()) {
+                loaded.add(row.toCandidate());
+            }
+            AsyncService.submit(() -> {
+                Set<String> matching = new HashSet<>();
+                for (int i = 0; i < loaded.size(); i++) {
+                    if ((i & 1023) == 0 && generation != filterGeneration.get()) return; // superseded
+                    Candidate candidate = loaded.get(i);
+                    if (search.matches(candidate)) matching.add(candidate.getId());
+                }
+                Platform.runLater(() -> {
+                    if (generation != filterGeneration.get()) return;
+                    filteredCandidates.setPredicate(candidate -> matching.contains(candidate.getId()));
+                });
+            });
+            return;
+        }
 
-        candidatesTable.setItems(filteredCandidates);
+        // Firestore cannot match name prefixes, so that part is applied to the loaded rows
+        filteredCandidates.setPredicate(search.hasNamePrefix() ? search::matches : null);
+        loadingIndicator.setVisible(true); // Show loading indicator
+        candidatePages.reset(query, () -> loadingIndicator.setVisible(false));
+    }
+
+    // Runs after typing pauses; half-typed marks are skipped instead of raising an alert
+    private void applyLiveFilter() {
+        try {
+            filterCandidates();
+        } catch (NumberFormatException e) {
+            // wait for the next keystroke
+        }
     }
 
     @FXML
@@ -181,9 +348,9 @@ public class RecruiterDashboardController implements Dashboard {
 
     @FXML
     private void handleHire() {
-        Candidate selected = candidatesTable.getSelectionModel().getSelectedItem();
-        if (selected == null) {
-            showAlert("Error", "Please select a candidate first");
+        List<CandidateRow> selected = new ArrayList<>(candidatesTable.getSelectionModel().getSelectedItems());
+        if (selected.isEmpty()) {
+            showAlert("Error", "Please select at least one candidate first");
             return;
         }
 
@@ -193,8 +360,9 @@ public class RecruiterDashboardController implements Dashboard {
         }
 
         TextInputDialog dialog = new TextInputDialog();
-        dialog.setTitle("Hire Candidate");
-        dialog.setHeaderText("Enter Estimated Salary for " + selected.getName());
+        dialog.setTitle(selected.size() == 1 ? "Hire Candidate" : "Hire Candidates");
+        dialog.setHeaderText("Enter Estimated Salary for "
+            + (selected.size() == 1 ? selected.get(0).getName() : selected.size() + " selected candidates"));
         dialog.setContentText("Estimated Salary (in currency units):");
 
         Optional<String> result = dialog.showAndWait();
@@ -205,38 +373,110 @@ public class RecruiterDashboardController implements Dashboard {
                     showAlert("Error", "Salary must be a positive number");
                     return;
                 }
+                sendOffers(selected, estimatedSalary);
+            } catch (NumberFormatException e) {
+                showAlert("Error", "Please enter a valid salary amount");
+            }
+        }
+    }
+
+    // Candidates that already hold a live offer from this recruiter are skipped; the rest are written
+    // in batches. The offers listener picks the new documents up, so nothing is reloaded afterwards.
+    private void sendOffers(List<CandidateRow> selected, double estimatedSalary) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (CandidateRow row : selected) {
+            names.putIfAbsent(row.getId(), row.getName());
+        }
+        String recruiter = recruiterId;
+        Timestamp timestamp = Timestamp.now();
+        List<String> skipped = new ArrayList<>();
 
+        loadingIndicator.setVisible(true); // Show loading indicator
+        OfferRepository.findOfferedCandidates(recruiter, names.keySet()).thenCompose(offered -> {
+            List<Offer> offers = new ArrayList<>();
+            for (String candidateId : names.keySet()) {
+                if (offered.contains(candidateId)) {
+                    skipped.add(names.get(candidateId));
+                    continue;
+                }
                 Offer offer = new Offer();
-                offer.setCandidateId(selected.getId());
-                offer.setRecruiterId(recruiterId);
+                offer.setCandidateId(candidateId);
+                offer.setRecruiterId(recruiter);
                 offer.setStatus("PENDING");
-                offer.setTimestamp(Timestamp.now());
+                offer.setTimestamp(timestamp);
                 offer.setEstimatedSalary(estimatedSalary);
+                offers.add(offer);
+            }
+            return OfferRepository.createAll(offers);
+        }).whenComplete((result, error) -> Platform.runLater(() -> {
+            loadingIndicator.setVisible(false); // Hide loading indicator
+            if (error != null) {
+                showAlert("Error", "Error sending hire requests: " + error.getMessage());
+                return;
+            }
+            List<String> sent = new ArrayList<>();
+            for (Offer offer : result.getCreated()) {
+                sent.add(names.get(offer.getCandidateId()));
+            }
+            List<String> failed = new ArrayList<>();
+            for (Offer offer : result.getFailed()) {
+                failed.add(names.get(offer.getCandidateId()));
+            }
 
-                loadingIndicator.setVisible(true); // Show loading indicator
-                ApiFuture<com.google.cloud.firestore.DocumentReference> future = FirebaseService.getFirestore()
-                    .collection("offers")
-                    .add(offer);
-
-                future.addListener(() -> {
-                    try {
-                        future.get();
-                        Platform.runLater(() -> {
-                            showAlert("Success", "Hiring request sent for " + selected.getName() + " with salary: " + estimatedSalary);
-                            loadOffers(); // Refresh the offers table
-                            loadingIndicator.setVisible(false); // Hide loading indicator
-                        });
-                    } catch (Exception e) {
-                        Platform.runLater(() -> {
-                            showAlert("Error", "Error sending hire request: " + e.getMessage());
-                            loadingIndicator.setVisible(false); // Hide even on error
-                        });
-                    }
-                }, Executors.newFixedThreadPool(4));
-            } catch (NumberFormatException e) {
-                showAlert("Error", "Please enter a valid salary amount");
+            StringBuilder message = new StringBuilder();
+            if (sent.size() == 1) {
+                message.append("Hiring request sent for ").append(sent.get(0)).append(" with salary: ").append(estimatedSalary);
+            } else if (!sent.isEmpty()) {
+                message.append("Hiring requests sent for ").append(sent.size()).append(" candidates with salary: ").append(estimatedSalary);
             }
-        }
+            if (!failed.isEmpty()) {
+                if (message.length() > 0) message.append("\n\n");
+                message.append("Failed to send (").append(result.getError().getMessage()).append("): ")
+                    .append(String.join(", ", failed));
+            }
+            if (!skipped.isEmpty()) {
+                if (message.length() > 0) message.append("\n\n");
+                message.append("Already offered, skipped: ").append(String.join(", ", skipped));
+            }
+            showAlert(sent.isEmpty() ? "Error" : "Success", message.toString());
+        }));
+    }
+
+    @FXML
+    private void handleImportCandidates() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Select Candidate List");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files (name, email, password, marks, qualification)", "*.csv"));
+
+        File file = fileChooser.showOpenDialog(null);
+        if (file == null) return;
+
+        CandidateImporter importer = new CandidateImporter(file.toPath());
+        importer.setOnProgress(progress -> Platform.runLater(() -> importStatusLabel.setText("Import: " + progress)));
+        importButton.setDisable(true);
+        importStatusLabel.setText("Import: checking existing accounts...");
+        AsyncService.submit(() -> {
+            try {
+                ImportProgress result = importer.run();
+                Platform.runLater(() -> {
+                    importButton.setDisable(false);
+                    showAlert("Success", "Import finished: " + result);
+                    loadCandidates();
+                });
+            } catch (IOException e) {
+                Platform.runLater(() -> {
+                    importButton.setDisable(false);
+                    importStatusLabel.setText("Import: stopped");
+                    showAlert("Error", e.getMessage() + "\nImport the same file again to resume where it stopped.");
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Platform.runLater(() -> {
+                    importButton.setDisable(false);
+                    importStatusLabel.setText("Import: interrupted");
+                });
+            }
+        });
     }
 
     @FXML
@@ -249,46 +489,84 @@ public class RecruiterDashboardController implements Dashboard {
         }
     }
 
-    private void viewCandidateCV(Candidate candidate) {
-        String base64Cv = candidate.getCvUrl();
-        if (base64Cv == null || base64Cv.trim().isEmpty()) {
-            showAlert("Error", "No CV available for " + candidate.getName());
-            return;
-        }
+    private void viewCandidateCV(CandidateRow candidate) {
+        loadingIndicator.setVisible(true); // Show loading indicator
+        AsyncService.submit(() -> {
+            try {
+                String cvHash = candidate.getCvHash();
+                String base64Cv = null;
+                if (cvHash == null || cvHash.isEmpty()) {
+                    // Projected list rows carry no CV fields; read them from the candidate document
+                    Candidate document = CandidateRepository.findById(candidate.getId()).get();
+                    if (document != null) {
+                        cvHash = document.getCvHash();
+                        base64Cv = document.getCvUrl();
+                    }
+                }
+                if ((cvHash == null || cvHash.isEmpty()) && (base64Cv == null || base64Cv.trim().isEmpty())) {
+                    Platform.runLater(() -> {
+                        showAlert("Error", "No CV available for " + candidate.getName());
+                        loadingIndicator.setVisible(false);
+                    });
+                    return;
+                }
 
-        try {
-            byte[] pdfBytes = Base64.getDecoder().decode(base64Cv);
-            File tempFile = File.createTempFile("candidate_cv_" + candidate.getId(), ".pdf");
-            tempFile.deleteOnExit();
+                File cvFile;
+                if (cvHash != null && !cvHash.isEmpty()) {
+                    // Repeat views are served from the local cache without touching the network
+                    cvFile = CvCache.fetch(candidate.getId(), cvHash, CvStorageService.getStorage()).toFile();
+                } else {
+                    cvFile = File.createTempFile("candidate_cv_" + candidate.getId(), ".pdf");
+                    cvFile.deleteOnExit();
+                    try (FileChannel out = FileChannel.open(cvFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                        CvStorageService.decodeLegacy(base64Cv, out);
+                    }
+                }
 
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                fos.write(pdfBytes);
+                Platform.runLater(() -> loadingIndicator.setVisible(false));
+                if (java.awt.Desktop.isDesktopSupported()) {
+                    java.awt.Desktop.getDesktop().open(cvFile);
+                } else {
+                    Platform.runLater(() -> showAlert("Error", "Desktop operations are not supported on this system."));
+                }
+            } catch (Exception e) {
+                Platform.runLater(() -> {
+                    showAlert("Error", "Unable to open CV for " + candidate.getName() + ": " + e.getMessage());
+                    loadingIndicator.setVisible(false); // Hide even on error
+                });
             }
+        });
+    }
 
-            if (java.awt.Desktop.isDesktopSupported()) {
-                java.awt.Desktop.getDesktop().open(tempFile);
-            } else {
-                showAlert("Error", "Desktop operations are not supported on this system.");
+    // Opening a row fetches the rest of the candidate document, without the CV itself
+    private void showCandidateDetails(CandidateRow row) {
+        loadingIndicator.setVisible(true); // Show loading indicator
+        CandidateRepository.findDetails(row.getId()).whenComplete((candidate, error) -> Platform.runLater(() -> {
+            loadingIndicator.setVisible(false); // Hide loading indicator
+            if (error != null) {
+                showAlert("Error", "Error loading candidate: " + error.getMessage());
+                return;
             }
-        } catch (Exception e) {
-            showAlert("Error", "Unable to open CV for " + candidate.getName() + ": " + e.getMessage());
-        }
+            if (candidate == null) {
+                showAlert("Error", row.getName() + " no longer exists");
+                return;
+            }
+            String cv = candidate.getCvHash() != null
+                ? String.format("%.1f KB (%s)", candidate.getCvSize() / 1024.0, candidate.getCvMimeType())
+                : "Not uploaded";
+            showAlert("Candidate Details", "Name: " + candidate.getName()
+                + "\nEmail: " + candidate.getEmail()
+                + "\nMarks: " + candidate.getMarks()
+                + "\nQualification: " + candidate.getQualification()
+                + "\nCV: " + cv);
+        }));
     }
 
-    private String getCandidateName(String candidateId) {
-        if (candidateId == null || candidateId.isEmpty()) return "Unknown Candidate";
-        try {
-            DocumentSnapshot document = FirebaseService.getFirestore()
-                .collection("candidates")
-                .document(candidateId)
-                .get()
-                .get();
-            String name = document.getString("name");
-            return name != null ? name : "Unknown Candidate";
-        } catch (Exception e) {
-            System.err.println("Error fetching candidate name: " + e.getMessage());
-            return "Error Loading Name";
-        }
+    private void resolveCandidateNames(List<Offer> offers) {
+        Set<String> candidateIds = offers.stream()
+            .map(Offer::getCandidateId)
+            .collect(Collectors.toSet());
+        CandidateNameService.resolveAll(candidateIds, () -> Platform.runLater(() -> offersTable.refresh()));
     }
 
     private void showAlert(String title, String message) {
@@ -1,20 +1,21 @@
 package com.placement.models;
 
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.annotation.Exclude;
+import com.google.cloud.firestore.annotation.ServerTimestamp;
 
-public class Candidate {
+public class Candidate implements CandidateSummary {
     private String id;
     private String name;
     private String email;
     private double marks;
     private String qualification;
-    private String cvUrl; // Store URL instead of bytes
-
-    private final StringProperty nameProperty = new SimpleStringProperty();
-    private final DoubleProperty marksProperty = new SimpleDoubleProperty();
+    private String cvUrl; // Legacy Base64 CV, superseded by the CV storage fields below
+    private String cvHash;
+    private long cvSize;
+    private String cvMimeType;
+    @ServerTimestamp private Timestamp updatedAt; // Filled in by the server when written as null
+    @Exclude private boolean legacyCv; // Set when read without the legacy CV payload but one exists
 
     public Candidate() {}
 
@@ -22,27 +23,35 @@ public class Candidate {
     public void setId(String id) { this.id = id; }
 
     public String getName() { return name; }
-    public void setName(String name) {
-        this.name = name;
-        nameProperty.set(name);
-    }
-
-    public StringProperty nameProperty() { return nameProperty; }
+    public void setName(String name) { this.name = name; }
 
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
 
     public double getMarks() { return marks; }
-    public void setMarks(double marks) {
-        this.marks = marks;
-        marksProperty.set(marks);
-    }
-
-    public DoubleProperty marksProperty() { return marksProperty; }
+    public void setMarks(double marks) { this.marks = marks; }
 
     public String getQualification() { return qualification; }
     public void setQualification(String qualification) { this.qualification = qualification; }
 
     public String getCvUrl() { return cvUrl; }
     public void setCvUrl(String cvUrl) { this.cvUrl = cvUrl; }
+
+    // True when a legacy inline CV exists, whether or not its payload was read
+    @Exclude
+    public boolean hasLegacyCv() { return legacyCv || (cvUrl != null && !cvUrl.trim().isEmpty()); }
+    @Exclude
+    public void setLegacyCv(boolean legacyCv) { this.legacyCv = legacyCv; }
+
+    public String getCvHash() { return cvHash; }
+    public void setCvHash(String cvHash) { this.cvHash = cvHash; }
+
+    public long getCvSize() { return cvSize; }
+    public void setCvSize(long cvSize) { this.cvSize = cvSize; }
+
+    public String getCvMimeType() { return cvMimeType; }
+    public void setCvMimeType(String cvMimeType) { this.cvMimeType = cvMimeType; }
+
+    public Timestamp getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Timestamp updatedAt) { this.updatedAt = updatedAt; }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.placement.models;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+
+// Table row view over one CandidateStore row. It holds only the store and the row index; the
+// JavaFX properties are created the first time a visible cell asks for them. Once the store
+// releases the row, the view reads from a copy of its last values instead.
+public final class CandidateRow implements CandidateSummary {
+    private CandidateStore store;
+    private final int row;
+    private Candidate detached;
+    private ReadOnlyStringWrapper nameProperty;
+    private ReadOnlyDoubleWrapper marksProperty;
+
+    CandidateRow(CandidateStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    @Override
+    public String getId() { return detached != null ? detached.getId() : store.getId(row); }
+
+    @Override
+    public String getName() { return detached != null ? detached.getName() : store.getName(row); }
+
+    public String getEmail() { return detached != null ? detached.getEmail() : store.getEmail(row); }
+
+    @Override
+    public double getMarks() { return detached != null ? detached.getMarks() : store.getMarks(row); }
+
+    @Override
+    public String getQualification() { return detached != null ? detached.getQualification() : store.getQualification(row); }
+
+    public String getCvHash() { return detached != null ? detached.getCvHash() : store.getCvHash(row); }
+
+    public long getCvSize() { return detached != null ? detached.getCvSize() : store.getCvSize(row); }
+
+    public String getCvMimeType() { return detached != null ? detached.getCvMimeType() : store.getCvMimeType(row); }
+
+    // The Base64 payload is not held in the store; fetch the candidate document to read it
+    public boolean hasLegacyCv() { return detached != null ? detached.hasLegacyCv() : store.hasLegacyCv(row); }
+
+    // Copies the row's values, e.g. to hand them to another thread
+    public Candidate toCandidate() {
+        Candidate candidate = new Candidate();
+        candidate.setId(getId());
+        candidate.setName(getName());
+        candidate.setEmail(getEmail());
+        candidate.setMarks(getMarks());
+        candidate.setQualification(getQualification());
+        candidate.setCvHash(getCvHash());
+        candidate.setCvSize(getCvSize());
+        candidate.setCvMimeType(getCvMimeType());
+        candidate.setLegacyCv(hasLegacyCv());
+        return candidate;
+    }
+
+    int getRow() { return row; }
+
+    boolean isStoredIn(CandidateStore owner) { return store == owner; }
+
+    void detach() {
+        detached = toCandidate();
+        store = null;
+    }
+
+    // Pushes new store values to the properties already handed to the table
+    void refresh() {
+        if (nameProperty != null) nameProperty.set(getName());
+        if (marksProperty != null) marksProperty.set(getMarks());
+    }
+
+    public ReadOnlyStringProperty nameProperty() {
+        if (nameProperty == null) nameProperty = new ReadOnlyStringWrapper(this, "name", getName());
+        return nameProperty.getReadOnlyProperty();
+    }
+
+    public ReadOnlyDoubleProperty marksProperty() {
+        if (marksProperty == null) marksProperty = new ReadOnlyDoubleWrapper(this, "marks", getMarks());
+        return marksProperty.getReadOnlyProperty();
+    }
+}
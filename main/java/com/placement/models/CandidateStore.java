@@ -0,0 +1,149 @@
+package com.placement.models;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+// Column-oriented candidate storage for large tables: one primitive or String array per field,
+// qualifications interned to byte codes and repeated strings shared. Rows are addressed by index
+// and exposed through CandidateRow views. Putting a candidate that is already stored overwrites
+// its row and updates its view. Released rows are reused by later puts, so the store only grows
+// to the largest number of rows held at once. Not thread-safe: the store and its views must only
+// be used on the FX thread; copy rows with CandidateRow.toCandidate() to work on them elsewhere.
+public class CandidateStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_QUALIFICATION_CODES = 255; // code 0 is "no qualification"
+
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private final Map<String, String> stringPool = new HashMap<>();
+    private final Map<String, Integer> qualificationCodes = new HashMap<>();
+    private final String[] qualificationTable = new String[MAX_QUALIFICATION_CODES + 1];
+    // Qualifications beyond the byte code space, by row
+    private final Map<Integer, String> overflowQualifications = new HashMap<>();
+
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private double[] marks = new double[INITIAL_CAPACITY];
+    private byte[] qualifications = new byte[INITIAL_CAPACITY];
+    private String[] cvHashes = new String[INITIAL_CAPACITY];
+    private long[] cvSizes = new long[INITIAL_CAPACITY];
+    private String[] cvMimeTypes = new String[INITIAL_CAPACITY];
+    // Rows whose CV is still the legacy inline Base64 copy; the payload itself is not kept here
+    private final BitSet legacyCvs = new BitSet();
+    private CandidateRow[] views = new CandidateRow[INITIAL_CAPACITY];
+    private int[] freeRows = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int rowCount; // slots ever allocated, live or free
+    private int size;
+
+    public CandidateRow put(Candidate candidate) {
+        Integer existing = rowsById.get(candidate.getId());
+        int row;
+        if (existing != null) {
+            row = existing;
+        } else if (freeCount > 0) {
+            row = freeRows[--freeCount];
+            size++;
+            rowsById.put(candidate.getId(), row);
+        } else {
+            row = rowCount++;
+            size++;
+            ensureCapacity(rowCount);
+            rowsById.put(candidate.getId(), row);
+        }
+
+        ids[row] = candidate.getId();
+        names[row] = pooled(candidate.getName());
+        emails[row] = candidate.getEmail();
+        marks[row] = candidate.getMarks();
+        setQualification(row, candidate.getQualification());
+        cvHashes[row] = candidate.getCvHash();
+        cvSizes[row] = candidate.getCvSize();
+        cvMimeTypes[row] = pooled(candidate.getCvMimeType());
+        legacyCvs.set(row, candidate.hasLegacyCv());
+        if (views[row] == null) {
+            views[row] = new CandidateRow(this, row);
+        } else {
+            views[row].refresh();
+        }
+        return views[row];
+    }
+
+    // Frees the row behind view for reuse. The view keeps a copy of its values, so a row still
+    // referenced elsewhere (a selection, an open dialog) stays readable but no longer updates.
+    public void release(CandidateRow view) {
+        if (!view.isStoredIn(this)) return;
+        int row = view.getRow();
+        view.detach();
+        rowsById.remove(ids[row]);
+        overflowQualifications.remove(row);
+        ids[row] = null;
+        names[row] = null;
+        emails[row] = null;
+        cvHashes[row] = null;
+        cvMimeTypes[row] = null;
+        legacyCvs.clear(row);
+        views[row] = null;
+        if (freeCount == freeRows.length) freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+        freeRows[freeCount++] = row;
+        size--;
+    }
+
+    public int size() { return size; }
+
+    String getId(int row) { return ids[row]; }
+    String getName(int row) { return names[row]; }
+    String getEmail(int row) { return emails[row]; }
+    double getMarks(int row) { return marks[row]; }
+    String getCvHash(int row) { return cvHashes[row]; }
+    long getCvSize(int row) { return cvSizes[row]; }
+    String getCvMimeType(int row) { return cvMimeTypes[row]; }
+    boolean hasLegacyCv(int row) { return legacyCvs.get(row); }
+
+    String getQualification(int row) {
+        int code = qualifications[row] & 0xFF;
+        return code != 0 ? qualificationTable[code] : overflowQualifications.get(row);
+    }
+
+    private void setQualification(int row, String qualification) {
+        overflowQualifications.remove(row);
+        if (qualification == null) {
+            qualifications[row] = 0;
+            return;
+        }
+        Integer code = qualificationCodes.get(qualification);
+        if (code == null && qualificationCodes.size() < MAX_QUALIFICATION_CODES) {
+            code = qualificationCodes.size() + 1;
+            qualificationCodes.put(qualification, code);
+            qualificationTable[code] = qualification;
+        }
+        if (code != null) {
+            qualifications[row] = (byte) (int) code;
+        } else {
+            qualifications[row] = 0;
+            overflowQualifications.put(row, qualification);
+        }
+    }
+
+    private String pooled(String value) {
+        if (value == null) return null;
+        String shared = stringPool.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) return;
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        marks = Arrays.copyOf(marks, capacity);
+        qualifications = Arrays.copyOf(qualifications, capacity);
+        cvHashes = Arrays.copyOf(cvHashes, capacity);
+        cvSizes = Arrays.copyOf(cvSizes, capacity);
+        cvMimeTypes = Arrays.copyOf(cvMimeTypes, capacity);
+        views = Arrays.copyOf(views, capacity);
+    }
+}
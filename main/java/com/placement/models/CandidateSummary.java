@@ -0,0 +1,9 @@
+package com.placement.models;
+
+// The candidate fields filters and sort orders work on, shared by the Firestore POJO and table rows
+public interface CandidateSummary {
+    String getId();
+    String getName();
+    double getMarks();
+    String getQualification();
+}
@@ -1,6 +1,7 @@
 package com.placement.models;
 
 import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.annotation.ServerTimestamp;
 
 public class Offer {
     private String id;
@@ -9,6 +10,7 @@ public class Offer {
     private String status;
     private Timestamp timestamp;
     private Double estimatedSalary; // New field for estimated salary
+    @ServerTimestamp private Timestamp updatedAt; // Filled in by the server when written as null
 
     // Getters and Setters
     public String getId() { return id; }
@@ -28,4 +30,7 @@ public class Offer {
 
     public Double getEstimatedSalary() { return estimatedSalary; }
     public void setEstimatedSalary(Double estimatedSalary) { this.estimatedSalary = estimatedSalary; }
+
+    public Timestamp getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Timestamp updatedAt) { this.updatedAt = updatedAt; }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.placement.services;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncService {
+    private static final ExecutorService delegate = Executors.newVirtualThreadPerTaskExecutor();
+    // Only fires timers; the delayed work itself is handed to the virtual-thread executor
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "async-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicInteger queued = new AtomicInteger();
+    private static final AtomicInteger active = new AtomicInteger();
+    private static final AtomicLong completed = new AtomicLong();
+
+    // Pass this to ApiFuture.addListener instead of creating a new pool per call
+    private static final Executor executor = AsyncService::submit;
+
+    public static Executor executor() {
+        return executor;
+    }
+
+    public static void submit(Runnable task) {
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Background task failed: " + e.getMessage());
+                    e.printStackTrace();
+                } finally {
+                    active.decrementAndGet();
+                    completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            System.err.println("Background task rejected, executor is shut down");
+        }
+    }
+
+    public static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return timer.schedule(() -> submit(task), delay, unit);
+    }
+
+    // Tasks handed over but not yet started
+    public static int getQueueDepth() {
+        return queued.get();
+    }
+
+    public static int getActiveTasks() {
+        return active.get();
+    }
+
+    public static long getCompletedTasks() {
+        return completed.get();
+    }
+
+    public static void shutdown() {
+        timer.shutdownNow();
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.err.println("Forcing shutdown with " + getActiveTasks() + " active background tasks");
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
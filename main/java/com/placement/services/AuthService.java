@@ -1,31 +1,70 @@
 package com.placement.services;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
 import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.cloud.firestore.WriteResult;
+import com.placement.services.password.PasswordHashing;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 public class AuthService {
     public static String authenticateUser(String email, String password) {
+        AuthResult result = login(email, password);
+        return result != null ? result.getUserId() : null;
+    }
+
+    // Resolves id, role and name with a single read of the email index document
+    public static AuthResult login(String email, String password) {
         try {
             Firestore db = FirebaseService.getFirestore();
-            String hashedPassword = hashPassword(password);
 
-            List<QueryDocumentSnapshot> users = db.collection("users")
-                .whereEqualTo("email", email)
-                .whereEqualTo("password", hashedPassword)
+            DocumentSnapshot index = db.collection("user_emails")
+                .document(emailKey(email))
+                .get()
+                .get();
+
+            if (index.exists()) {
+                PasswordHashing.Verification verification = PasswordHashing.verify(password, index.getString("password"));
+                if (!verification.isValid()) return null;
+                String userId = index.getString("userId");
+                if (verification.getUpgradedHash() != null) {
+                    storeUpgradedHash(db, email, userId, index.getString("role"), index.getString("name"), verification.getUpgradedHash());
+                }
+                return new AuthResult(userId, index.getString("role"), index.getString("name"));
+            }
+
+            // Accounts created before the email index existed: one query, then backfill the index
+            List<QueryDocumentSnapshot> users = usersByEmail(db, email)
                 .get()
                 .get()
                 .getDocuments();
 
-            return users.isEmpty() ? null : users.get(0).getId();
+            for (QueryDocumentSnapshot user : users) {
+                PasswordHashing.Verification verification = PasswordHashing.verify(password, user.getString("password"));
+                if (!verification.isValid()) continue;
+                String storedHash = verification.getUpgradedHash() != null ? verification.getUpgradedHash() : user.getString("password");
+                storeUpgradedHash(db, email, user.getId(), user.getString("role"), user.getString("name"), storedHash);
+                return new AuthResult(user.getId(), user.getString("role"), user.getString("name"));
+            }
+            return null;
         } catch (InterruptedException | ExecutionException | NoSuchAlgorithmException e) {
             e.printStackTrace();
             return null;
@@ -35,12 +74,14 @@ public class AuthService {
     public static String registerUser(String name, String email, String password, String role) {
         try {
             Firestore db = FirebaseService.getFirestore();
-            String hashedPassword = hashPassword(password);
+            String typedEmail = email;
+            email = normalizeEmail(email);
 
-            if (userExists(email)) {
+            if (userExists(db, typedEmail)) {
                 System.err.println("User with email " + email + " already exists.");
                 return null;
             }
+            String hashedPassword = PasswordHashing.hash(password);
 
             Map<String, Object> userData = new HashMap<>();
             userData.put("name", name);
@@ -48,22 +89,33 @@ public class AuthService {
             userData.put("password", hashedPassword);
             userData.put("role", role.toLowerCase());
 
-            String userId = db.collection("users")
-                .add(userData)
-                .get()
-                .getId();
+            // The index entry is created in the same batch, so a concurrent registration of the same address fails here
+            DocumentReference userRef = db.collection("users").document();
+            String userId = userRef.getId();
+            WriteBatch batch = db.batch();
+            batch.create(db.collection("user_emails").document(emailKey(email)),
+                emailIndexData(userId, role.toLowerCase(), name, hashedPassword));
+            batch.set(userRef, userData);
 
             if ("candidate".equals(role.toLowerCase())) {
                 Map<String, Object> candidateData = new HashMap<>();
                 candidateData.put("userId", userId);
                 candidateData.put("email", email);
                 candidateData.put("name", name);
-                candidateData.put("cv_url", null);
-                db.collection("candidates").document(userId).set(candidateData).get();
+                candidateData.put("updatedAt", FieldValue.serverTimestamp());
+                batch.set(db.collection("candidates").document(userId), candidateData);
             }
 
+            batch.commit().get();
             return userId;
-        } catch (InterruptedException | ExecutionException | NoSuchAlgorithmException e) {
+        } catch (ExecutionException e) {
+            if (isAlreadyExists(e.getCause())) {
+                System.err.println("User with email " + email + " already exists.");
+            } else {
+                e.printStackTrace();
+            }
+            return null;
+        } catch (InterruptedException | NoSuchAlgorithmException e) {
             e.printStackTrace();
             return null;
         }
@@ -72,12 +124,14 @@ public class AuthService {
     public static String registerRecruiter(String name, String email, String password, String companyName) {
         try {
             Firestore db = FirebaseService.getFirestore();
-            String hashedPassword = hashPassword(password);
+            String typedEmail = email;
+            email = normalizeEmail(email);
 
-            if (userExists(email)) {
+            if (userExists(db, typedEmail)) {
                 System.err.println("User with email " + email + " already exists.");
                 return null;
             }
+            String hashedPassword = PasswordHashing.hash(password);
 
             Map<String, Object> userData = new HashMap<>();
             userData.put("name", name);
@@ -90,14 +144,29 @@ public class AuthService {
             recruiterData.put("email", email);
             recruiterData.put("name", name);
             recruiterData.put("companyName", companyName);
+            recruiterData.put("updatedAt", FieldValue.serverTimestamp());
 
-            String userId = db.collection("users").add(userData).get().getId();
+            DocumentReference userRef = db.collection("users").document();
+            String userId = userRef.getId();
             recruiterData.put("userId", userId);
-            db.collection("recruiters").document(userId).set(recruiterData).get();
+
+            WriteBatch batch = db.batch();
+            batch.create(db.collection("user_emails").document(emailKey(email)),
+                emailIndexData(userId, "recruiter", name, hashedPassword));
+            batch.set(userRef, userData);
+            batch.set(db.collection("recruiters").document(userId), recruiterData);
+            batch.commit().get();
 
             System.out.println("Successfully created recruiter with ID: " + userId);
             return userId;
-        } catch (InterruptedException | ExecutionException | NoSuchAlgorithmException e) {
+        } catch (ExecutionException e) {
+            if (isAlreadyExists(e.getCause())) {
+                System.err.println("User with email " + email + " already exists.");
+            } else {
+                e.printStackTrace();
+            }
+            return null;
+        } catch (InterruptedException | NoSuchAlgorithmException e) {
             e.printStackTrace();
             return null;
         }
@@ -106,25 +175,39 @@ public class AuthService {
     public static boolean resetPassword(String email, String newPassword) {
         try {
             Firestore db = FirebaseService.getFirestore();
-            String hashedPassword = hashPassword(newPassword);
+            String typedEmail = email;
+            email = normalizeEmail(email);
 
             // Check if user exists
-            List<QueryDocumentSnapshot> users = db.collection("users")
-                .whereEqualTo("email", email)
-                .get()
-                .get()
-                .getDocuments();
+            String userId;
+            String role;
+            String name;
+            DocumentSnapshot index = db.collection("user_emails").document(emailKey(email)).get().get();
+            if (index.exists()) {
+                userId = index.getString("userId");
+                role = index.getString("role");
+                name = index.getString("name");
+            } else {
+                List<QueryDocumentSnapshot> users = usersByEmail(db, typedEmail)
+                    .get()
+                    .get()
+                    .getDocuments();
 
-            if (users.isEmpty()) {
-                return false; // User not found
+                if (users.isEmpty()) {
+                    return false; // User not found
+                }
+                QueryDocumentSnapshot user = users.get(0);
+                userId = user.getId();
+                role = user.getString("role");
+                name = user.getString("name");
             }
+            String hashedPassword = PasswordHashing.hash(newPassword);
 
             // Update password
-            String userId = users.get(0).getId();
-            WriteResult result = db.collection("users")
-                .document(userId)
-                .update("password", hashedPassword)
-                .get();
+            WriteBatch batch = db.batch();
+            batch.update(db.collection("users").document(userId), "password", hashedPassword);
+            batch.set(db.collection("user_emails").document(emailKey(email)), emailIndexData(userId, role, name, hashedPassword));
+            WriteResult result = batch.commit().get().get(0);
 
             System.out.println("Password updated for user: " + email + " at " + result.getUpdateTime());
             return true;
@@ -134,31 +217,69 @@ public class AuthService {
         }
     }
 
-    private static boolean userExists(String email) throws InterruptedException, ExecutionException {
-        Firestore db = FirebaseService.getFirestore();
-        List<QueryDocumentSnapshot> users = db.collection("users")
-            .whereEqualTo("email", email)
+    // Looks at the email index first; accounts created before it existed are only found by the query
+    private static boolean userExists(Firestore db, String email)
+            throws InterruptedException, ExecutionException, NoSuchAlgorithmException {
+        if (db.collection("user_emails").document(emailKey(email)).get().get().exists()) {
+            return true;
+        }
+        List<QueryDocumentSnapshot> users = usersByEmail(db, email)
+            .limit(1)
             .get()
             .get()
             .getDocuments();
         return !users.isEmpty();
     }
 
-    public static void logout() {
-        System.out.println("User logged out");
+    // Accounts created before the email index stored the address exactly as typed, so the raw input
+    // is matched as well as the normalized form
+    private static Query usersByEmail(Firestore db, String email) {
+        Set<String> spellings = new LinkedHashSet<>(List.of(normalizeEmail(email), email.trim(), email));
+        return db.collection("users").whereIn("email", new ArrayList<>(spellings));
     }
 
-    private static String hashPassword(String password) throws NoSuchAlgorithmException {
+    public static String normalizeEmail(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    // Document ids are a hash of the normalized email, so the index cannot be used to list addresses
+    public static String emailKey(String email) throws NoSuchAlgorithmException {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] encodedHash = digest.digest(password.getBytes(StandardCharsets.UTF_8));
-        StringBuilder hexString = new StringBuilder();
+        return HexFormat.of().formatHex(digest.digest(normalizeEmail(email).getBytes(StandardCharsets.UTF_8)));
+    }
 
-        for (byte b : encodedHash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) hexString.append('0');
-            hexString.append(hex);
-        }
+    // True when a create() failed because the document was already there
+    public static boolean isAlreadyExists(Throwable error) {
+        return error instanceof ApiException
+            && ((ApiException) error).getStatusCode().getCode() == StatusCode.Code.ALREADY_EXISTS;
+    }
 
-        return hexString.toString();
+    public static Map<String, Object> emailIndexData(String userId, String role, String name, String hashedPassword) {
+        Map<String, Object> indexData = new HashMap<>();
+        indexData.put("userId", userId);
+        indexData.put("role", role);
+        indexData.put("name", name);
+        indexData.put("password", hashedPassword);
+        return indexData;
+    }
+
+    // Stores the (possibly rehashed) password on the user and its index entry without delaying the login
+    private static void storeUpgradedHash(Firestore db, String email, String userId, String role,
+                                          String name, String hashedPassword) throws NoSuchAlgorithmException {
+        WriteBatch batch = db.batch();
+        batch.update(db.collection("users").document(userId), "password", hashedPassword);
+        batch.set(db.collection("user_emails").document(emailKey(email)), emailIndexData(userId, role, name, hashedPassword));
+        ApiFuture<List<WriteResult>> future = batch.commit();
+        future.addListener(() -> {
+            try {
+                future.get();
+            } catch (Exception e) {
+                System.err.println("Failed to store upgraded password hash for " + userId + ": " + e.getMessage());
+            }
+        }, AsyncService.executor());
+    }
+
+    public static void logout() {
+        System.out.println("User logged out");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.placement.services;
+
+import com.placement.models.Candidate;
+import com.placement.services.replica.LocalReplica;
+import com.placement.services.repository.CandidateRepository;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CandidateNameService {
+    public static final String LOADING = "Loading...";
+    public static final String UNKNOWN = "Unknown Candidate";
+    public static final String ERROR = "Error Loading Name";
+
+    private static final Map<String, String> names = new ConcurrentHashMap<>();
+
+    // Only reads the memoized map, so it is safe to call from cell value factories
+    public static String getCachedName(String candidateId) {
+        if (candidateId == null || candidateId.isEmpty()) return UNKNOWN;
+        return names.getOrDefault(candidateId, LOADING);
+    }
+
+    // Resolves every id not yet memoized from the local replica, or else in one batched read, and runs
+    // onResolved once they are in the map
+    public static void resolveAll(Collection<String> candidateIds, Runnable onResolved) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (String id : candidateIds) {
+            if (id == null || id.isEmpty()) continue;
+            String cached = names.get(id);
+            if (cached != null && !ERROR.equals(cached)) continue;
+            Candidate local = LocalReplica.candidates().get(id);
+            if (local != null && local.getName() != null) {
+                names.put(id, local.getName());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            onResolved.run();
+            return;
+        }
+
+        CandidateRepository.findNames(missing).whenComplete((resolved, error) -> {
+            if (error != null) {
+                System.err.println("Error fetching candidate names: " + error.getMessage());
+                for (String id : missing) {
+                    names.putIfAbsent(id, ERROR); // retried on the next resolveAll()
+                }
+            } else {
+                // Only the name field is read; the rest of the candidate document (CV included) is skipped
+                resolved.forEach((id, name) -> names.put(id, name != null ? name : UNKNOWN));
+            }
+            onResolved.run();
+        });
+    }
+
+    public static void invalidate(String candidateId) {
+        if (candidateId != null) names.remove(candidateId);
+    }
+
+    public static void clear() {
+        names.clear();
+    }
+}
@@ -0,0 +1,248 @@
+package com.placement.services;
+
+import com.placement.models.Candidate;
+import com.placement.models.CandidateRow;
+import com.placement.models.CandidateStore;
+import com.placement.services.replica.LocalReplica;
+import com.placement.services.repository.CandidateRepository;
+import javafx.application.Platform;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+// Cursor-paged view over the candidates collection. Only a bounded window of pages is kept in
+// getItems(); pages that fall out of the window are re-fetched from their cursor when scrolled back to.
+// Until the first page arrives, the window shows matching candidates from the local replica.
+// Rows live in a column-oriented CandidateStore that is replaced whenever the query changes; rows
+// leaving the window are released so the store stays the size of the window.
+// All state is touched on the FX thread only.
+public class CandidatePageSource {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int DEFAULT_MAX_PAGES = 6;
+
+    private final int pageSize;
+    private final int maxPages;
+    private CandidateQuery query = CandidateQuery.all();
+    private List<String> projection; // null downloads whole documents
+
+    private CandidateStore store = new CandidateStore();
+    private final ObservableList<CandidateRow> items = FXCollections.observableArrayList();
+    private final LongProperty totalCount = new SimpleLongProperty(-1);
+
+    // startCursors.get(i) holds the {orderField, id} values page i starts after; null for page 0
+    private final List<Object[]> startCursors = new ArrayList<>();
+    private final LinkedList<List<CandidateRow>> pages = new LinkedList<>();
+    private int firstPage;
+    private int lastPage = -1; // index of the final page once a short page has been seen
+    private boolean loading;
+    private boolean partial; // rows came from showResults and may be narrowed by name or cut off
+    private int generation;
+
+    private Consumer<Throwable> onError = e -> System.err.println("Error loading candidates: " + e.getMessage());
+    private IntConsumer onWindowShift = shift -> {};
+
+    public CandidatePageSource() {
+        this(DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    public CandidatePageSource(int pageSize, int maxPages) {
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+    }
+
+    public ObservableList<CandidateRow> getItems() { return items; }
+
+    public LongProperty totalCountProperty() { return totalCount; }
+
+    public boolean isLoading() { return loading; }
+
+    public CandidateQuery getQuery() { return query; }
+
+    // Fields to download for each row; the current order field is always added for the page cursors
+    public void setProjection(Collection<String> fields) {
+        this.projection = fields != null ? List.copyOf(fields) : null;
+    }
+
+    public void setOnError(Consumer<Throwable> onError) { this.onError = onError; }
+
+    // Called with the number of rows inserted (positive) or removed (negative) at the top of the
+    // window, just before it happens, so the table can keep its scroll position
+    public void setOnWindowShift(IntConsumer onWindowShift) { this.onWindowShift = onWindowShift; }
+
+    public void reset(Runnable onFirstPage) {
+        reset(query, onFirstPage);
+    }
+
+    // Restarts paging with the filter applied server-side, so only matching documents are downloaded
+    public void reset(CandidateQuery query, Runnable onFirstPage) {
+        this.query = query;
+        generation++;
+        store = new CandidateStore();
+        items.clear();
+        pages.clear();
+        startCursors.clear();
+        startCursors.add(null);
+        firstPage = 0;
+        lastPage = -1;
+        loading = false;
+        partial = false;
+        totalCount.set(-1);
+        seedFromReplica(onFirstPage);
+        loadCount();
+        fetch(0, page -> {
+            List<CandidateRow> seeded = new ArrayList<>(items);
+            pages.add(page);
+            items.setAll(page);
+            release(seeded);
+            if (onFirstPage != null) onFirstPage.run();
+        });
+    }
+
+    // Shows a finished result (e.g. from the search index) as a single final page; paging stops.
+    // The rows are not treated as every match of query, since a search may have narrowed or capped them.
+    public void showResults(CandidateQuery query, List<Candidate> results, long total) {
+        this.query = query;
+        generation++;
+        store = new CandidateStore();
+        List<CandidateRow> rows = toRows(results);
+        pages.clear();
+        pages.add(rows);
+        startCursors.clear();
+        startCursors.add(null);
+        firstPage = 0;
+        lastPage = 0;
+        loading = false;
+        partial = true;
+        items.setAll(rows);
+        totalCount.set(total);
+    }
+
+    public void loadNext() {
+        int next = firstPage + pages.size();
+        if (loading || pages.isEmpty() || (lastPage >= 0 && next > lastPage) || next >= startCursors.size()) return;
+        fetch(next, page -> {
+            pages.addLast(page);
+            items.addAll(page);
+            if (pages.size() > maxPages) {
+                List<CandidateRow> dropped = pages.removeFirst();
+                onWindowShift.accept(-dropped.size());
+                items.remove(0, dropped.size());
+                release(dropped);
+                firstPage++;
+            }
+        });
+    }
+
+    public void loadPrevious() {
+        if (loading || firstPage == 0) return;
+        fetch(firstPage - 1, page -> {
+            onWindowShift.accept(page.size());
+            pages.addFirst(page);
+            items.addAll(0, page);
+            firstPage--;
+            if (pages.size() > maxPages) {
+                List<CandidateRow> dropped = pages.removeLast();
+                items.remove(items.size() - dropped.size(), items.size());
+                release(dropped);
+            }
+        });
+    }
+
+    // True when every candidate matching the query is held in the window
+    public boolean isComplete() {
+        return !partial && firstPage == 0 && lastPage >= 0 && firstPage + pages.size() - 1 == lastPage;
+    }
+
+    // Decoding and sorting the replica happens on a background thread; the rows are only shown if
+    // the query is unchanged and the first server page has not arrived yet
+    private void seedFromReplica(Runnable onFirstPage) {
+        int requestGeneration = generation;
+        CandidateQuery requestQuery = query;
+        int limit = pageSize * maxPages;
+        AsyncService.submit(() -> {
+            List<Candidate> local = LocalReplica.candidates().query(requestQuery::matches);
+            if (local.isEmpty()) return;
+            local.sort(requestQuery.comparator());
+            List<Candidate> seed = new ArrayList<>(local.subList(0, Math.min(local.size(), limit)));
+            Platform.runLater(() -> {
+                if (requestGeneration != generation || !pages.isEmpty()) return;
+                items.setAll(toRows(seed));
+                if (onFirstPage != null) onFirstPage.run();
+            });
+        });
+    }
+
+    private void fetch(int pageIndex, Consumer<List<CandidateRow>> apply) {
+        loading = true;
+        int requestGeneration = generation;
+        CandidateQuery requestQuery = query;
+
+        CandidateRepository.findPage(requestQuery, startCursors.get(pageIndex), pageSize, fieldsFor(requestQuery)).whenComplete((page, error) -> {
+            Platform.runLater(() -> {
+                if (requestGeneration != generation) return;
+                loading = false;
+                if (error != null) {
+                    if (pages.isEmpty() && !items.isEmpty()) {
+                        // Offline: keep showing the replica rows instead of failing the whole table
+                        System.err.println("Showing local candidates, Firestore query failed: " + error.getMessage());
+                        return;
+                    }
+                    onError.accept(error);
+                    return;
+                }
+                if (page.size() < pageSize) {
+                    lastPage = pageIndex;
+                } else if (startCursors.size() == pageIndex + 1) {
+                    startCursors.add(requestQuery.cursorAfter(page.get(page.size() - 1)));
+                }
+                apply.accept(toRows(page));
+            });
+        });
+    }
+
+    private List<String> fieldsFor(CandidateQuery query) {
+        if (projection == null || projection.contains(query.getOrderField())) return projection;
+        List<String> fields = new ArrayList<>(projection);
+        fields.add(query.getOrderField());
+        return fields;
+    }
+
+    private List<CandidateRow> toRows(List<Candidate> candidates) {
+        List<CandidateRow> rows = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            rows.add(store.put(candidate));
+        }
+        return rows;
+    }
+
+    // A candidate can sit in two pages when it moved between fetches, so only rows no longer shown are freed
+    private void release(List<CandidateRow> rows) {
+        Set<CandidateRow> shown = new HashSet<>(items);
+        for (CandidateRow row : rows) {
+            if (!shown.contains(row)) store.release(row);
+        }
+    }
+
+    private void loadCount() {
+        int requestGeneration = generation;
+        CandidateRepository.count(query).whenComplete((count, error) -> {
+            if (error != null) {
+                System.err.println("Error counting candidates: " + error.getMessage());
+                return;
+            }
+            Platform.runLater(() -> {
+                if (requestGeneration == generation) totalCount.set(count);
+            });
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.placement.services;
+
+import com.google.cloud.firestore.Query;
+import com.placement.models.CandidateSummary;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+// Recruiter candidate filter that is pushed down to Firestore. Needs the composite indexes in
+// firestore.indexes.json when a qualification is combined with either ordering.
+public class CandidateQuery {
+    public static final String ALL_QUALIFICATIONS = "All";
+
+    private final double minMarks;
+    private final String qualification; // null matches every qualification
+
+    private CandidateQuery(double minMarks, String qualification) {
+        this.minMarks = minMarks;
+        this.qualification = qualification;
+    }
+
+    public static CandidateQuery all() {
+        return new CandidateQuery(0, null);
+    }
+
+    public static CandidateQuery of(double minMarks, String qualification) {
+        boolean anyQualification = qualification == null || qualification.isEmpty() || ALL_QUALIFICATIONS.equals(qualification);
+        return new CandidateQuery(Math.max(0, minMarks), anyQualification ? null : qualification);
+    }
+
+    public double getMinMarks() { return minMarks; }
+
+    public String getQualification() { return qualification; }
+
+    public Query apply(Query query) {
+        if (qualification != null) {
+            query = query.whereEqualTo("qualification", qualification);
+        }
+        if (minMarks > 0) {
+            query = query.whereGreaterThanOrEqualTo("marks", minMarks);
+        }
+        return query;
+    }
+
+    // A range filter on marks requires marks to be the first ordering
+    public String getOrderField() {
+        return minMarks > 0 ? "marks" : "name";
+    }
+
+    public Query.Direction getDirection() {
+        return minMarks > 0 ? Query.Direction.DESCENDING : Query.Direction.ASCENDING;
+    }
+
+    // Values of the sort fields for a startAfter() cursor that continues after this candidate
+    public Object[] cursorAfter(CandidateSummary candidate) {
+        Object orderValue = minMarks > 0 ? (Object) candidate.getMarks() : candidate.getName();
+        return new Object[] {orderValue, candidate.getId()};
+    }
+
+    // Same order as the Firestore query, for sorting candidates read from the local replica
+    public Comparator<CandidateSummary> comparator() {
+        Comparator<CandidateSummary> order = minMarks > 0
+            ? Comparator.comparingDouble(CandidateSummary::getMarks)
+            : Comparator.comparing(CandidateSummary::getName, Comparator.nullsFirst(Comparator.naturalOrder()));
+        order = order.thenComparing(CandidateSummary::getId);
+        return getDirection() == Query.Direction.DESCENDING ? order.reversed() : order;
+    }
+
+    public boolean matches(CandidateSummary candidate) {
+        return candidate.getMarks() >= minMarks
+            && (qualification == null || qualification.equals(candidate.getQualification()));
+    }
+
+    // True when every candidate matching other is also matched by this query
+    public boolean covers(CandidateQuery other) {
+        return minMarks <= other.minMarks
+            && (qualification == null || qualification.equals(other.qualification));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CandidateQuery)) return false;
+        CandidateQuery other = (CandidateQuery) o;
+        return minMarks == other.minMarks && Objects.equals(qualification, other.qualification);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minMarks, qualification);
+    }
+}
@@ -8,11 +8,43 @@ import com.google.firebase.cloud.FirestoreClient;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+// Firebase is initialized at most once, on a background thread started by initializeAsync().
+// getFirestore() waits for that initialization if it is still running.
 public class FirebaseService {
-    private static Firestore firestore;
+    private static volatile Firestore firestore;
+    private static CompletableFuture<Firestore> initialization;
 
+    public static synchronized CompletableFuture<Firestore> initializeAsync() {
+        if (initialization == null) {
+            initialization = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return createFirestore();
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, runnable -> {
+                Thread thread = new Thread(runnable, "firebase-init");
+                thread.setDaemon(true);
+                thread.start();
+            });
+        }
+        return initialization;
+    }
+
+    // Blocking variant; returns immediately when initialization has already completed
     public static void initialize() throws IOException {
+        try {
+            initializeAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw e;
+        }
+    }
+
+    private static Firestore createFirestore() throws IOException {
         try (InputStream serviceAccount = FirebaseService.class.getClassLoader().getResourceAsStream("firebase_config.json")) {
             if (serviceAccount == null) {
                 throw new IOException("Firebase config file 'firebase_config.json' not found in resources.");
@@ -27,16 +59,33 @@ public class FirebaseService {
             }
             firestore = FirestoreClient.getFirestore();
             System.out.println("Firebase initialized successfully");
+            return firestore;
         } catch (IOException e) {
             System.err.println("Failed to initialize Firebase: " + e.getMessage());
             throw e;
         }
     }
 
+    // Opens the gRPC channel with one small read so the first real query does not pay for the handshake
+    public static void warmUpChannel() throws Exception {
+        getFirestore().collection("user_emails").document("_warmup").get().get();
+    }
+
     public static Firestore getFirestore() {
-        if (firestore == null) {
+        Firestore current = firestore;
+        if (current != null) return current;
+
+        CompletableFuture<Firestore> pending;
+        synchronized (FirebaseService.class) {
+            pending = initialization;
+        }
+        if (pending == null) {
             throw new IllegalStateException("Firestore not initialized. Call initialize() first.");
         }
-        return firestore;
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Firestore failed to initialize: " + e.getCause().getMessage(), e.getCause());
+        }
     }
-}
\ No newline at end of file
+}
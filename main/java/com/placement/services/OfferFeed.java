@@ -0,0 +1,118 @@
+package com.placement.services;
+
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.placement.models.Offer;
+import com.placement.services.mapping.OfferMapper;
+import com.placement.services.replica.LocalReplica;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// Keeps an offers list in sync with a Firestore query by applying only the document changes of
+// each snapshot. The first snapshot delivers every matching offer as ADDED. The list is seeded from
+// the local replica first, and every snapshot is written back to it.
+public class OfferFeed {
+
+    private static class Change {
+        final DocumentChange.Type type;
+        final String id;
+        final Offer offer;
+
+        Change(DocumentChange.Type type, String id, Offer offer) {
+            this.type = type;
+            this.id = id;
+            this.offer = offer;
+        }
+    }
+
+    // onChanged receives the added and modified offers after each snapshot is applied, on the FX thread.
+    // localFilter must select the same offers as query; it is used to seed the list from the replica.
+    public static ListenerRegistration listen(Query query, Predicate<Offer> localFilter, ObservableList<Offer> target,
+                                              Consumer<List<Offer>> onChanged, Consumer<Exception> onError) {
+        List<Offer> seeded = LocalReplica.offers().query(localFilter);
+        for (Offer offer : seeded) {
+            String pendingStatus = OfferWriteQueue.getPendingStatus(offer.getId());
+            if (pendingStatus != null) offer.setStatus(pendingStatus);
+        }
+        target.setAll(seeded);
+        if (!seeded.isEmpty()) onChanged.accept(seeded);
+
+        boolean[] first = {true};
+        return query.addSnapshotListener((snapshot, error) -> {
+            if (error != null) {
+                Platform.runLater(() -> onError.accept(error));
+                return;
+            }
+            if (snapshot == null) return;
+
+            // Seeded offers the server no longer has would never get a REMOVED change
+            Set<String> present = null;
+            if (first[0]) {
+                first[0] = false;
+                present = new HashSet<>();
+                for (QueryDocumentSnapshot doc : snapshot.getDocuments()) {
+                    present.add(doc.getId());
+                }
+            }
+
+            // Map documents on the listener thread; only the list mutation happens on the FX thread
+            List<Change> changes = new ArrayList<>();
+            for (DocumentChange change : snapshot.getDocumentChanges()) {
+                QueryDocumentSnapshot doc = change.getDocument();
+                Offer offer = null;
+                if (change.getType() != DocumentChange.Type.REMOVED) {
+                    LocalReplica.offers().upsert(doc.getId(), doc.getData());
+                    offer = OfferMapper.fromSnapshot(doc);
+                    // Keep showing a locally queued status until its write has been acknowledged
+                    String pendingStatus = OfferWriteQueue.getPendingStatus(doc.getId());
+                    if (pendingStatus != null) offer.setStatus(pendingStatus);
+                }
+                changes.add(new Change(change.getType(), doc.getId(), offer));
+            }
+
+            Set<String> live = present;
+            Platform.runLater(() -> {
+                if (live != null) target.removeIf(offer -> !live.contains(offer.getId()));
+                onChanged.accept(apply(target, changes));
+            });
+        });
+    }
+
+    private static List<Offer> apply(ObservableList<Offer> target, List<Change> changes) {
+        List<Offer> updated = new ArrayList<>();
+        for (Change change : changes) {
+            int index = indexOf(target, change.id);
+            switch (change.type) {
+                case ADDED:
+                case MODIFIED:
+                    if (index >= 0) {
+                        target.set(index, change.offer);
+                    } else {
+                        target.add(change.offer);
+                    }
+                    updated.add(change.offer);
+                    break;
+                case REMOVED:
+                    if (index >= 0) target.remove(index);
+                    break;
+            }
+        }
+        return updated;
+    }
+
+    private static int indexOf(List<Offer> offers, String id) {
+        for (int i = 0; i < offers.size(); i++) {
+            if (id.equals(offers.get(i).getId())) return i;
+        }
+        return -1;
+    }
+}
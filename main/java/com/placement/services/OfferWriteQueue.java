@@ -0,0 +1,214 @@
+package com.placement.services;
+
+import com.google.cloud.Timestamp;
+import com.placement.services.repository.OfferRepository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+// Write-behind queue for offer status changes. The UI applies a change immediately and enqueues it
+// here; writes are coalesced per offer id, retried with exponential backoff and journaled to disk so
+// they survive a restart. A write that keeps failing is dropped and reported to the failure
+// listeners with the last acknowledged status so the row can be rolled back.
+public class OfferWriteQueue {
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 1000;
+
+    private static final Path journal = Path.of(System.getProperty("user.home"), ".placement-consultancy", "offer-writes.journal");
+
+    private static final Map<String, PendingWrite> pending = new LinkedHashMap<>();
+    // Offer ids a worker is currently writing or waiting to retry
+    private static final Set<String> owned = new HashSet<>();
+    private static final List<BiConsumer<String, String>> failureListeners = new CopyOnWriteArrayList<>();
+    private static boolean loaded;
+    private static boolean started;
+
+    private static class PendingWrite {
+        final String status;
+        final long timestampMillis;
+        String previousStatus;
+        int attempts;
+
+        PendingWrite(String status, long timestampMillis, String previousStatus) {
+            this.status = status;
+            this.timestampMillis = timestampMillis;
+            this.previousStatus = previousStatus;
+        }
+    }
+
+    // Replays whatever the journal still holds from a previous run. Changes enqueued before this
+    // (e.g. while startup was still warming up) are already being written.
+    public static void start() {
+        List<String> offerIds = new ArrayList<>();
+        synchronized (OfferWriteQueue.class) {
+            if (started) return;
+            started = true;
+            ensureLoaded();
+            for (String offerId : pending.keySet()) {
+                if (owned.add(offerId)) offerIds.add(offerId);
+            }
+        }
+        for (String offerId : offerIds) {
+            AsyncService.submit(() -> flush(offerId));
+        }
+    }
+
+    public static void enqueueStatus(String offerId, String status, String previousStatus) {
+        synchronized (OfferWriteQueue.class) {
+            ensureLoaded();
+            PendingWrite existing = pending.get(offerId);
+            // Coalesce: only the newest status is written, but a rollback still goes to the last acknowledged one
+            String rollbackStatus = existing != null ? existing.previousStatus : previousStatus;
+            pending.put(offerId, new PendingWrite(status, System.currentTimeMillis(), rollbackStatus));
+            saveJournal();
+            if (!owned.add(offerId)) return;
+        }
+        AsyncService.submit(() -> flush(offerId));
+    }
+
+    // Status the UI should show while a write for this offer is still queued, or null
+    public static synchronized String getPendingStatus(String offerId) {
+        ensureLoaded();
+        PendingWrite write = pending.get(offerId);
+        return write != null ? write.status : null;
+    }
+
+    public static synchronized int getPendingCount() {
+        ensureLoaded();
+        return pending.size();
+    }
+
+    // Listener receives (offerId, rollbackStatus) on a background thread
+    public static void addFailureListener(BiConsumer<String, String> listener) {
+        failureListeners.add(listener);
+    }
+
+    public static void removeFailureListener(BiConsumer<String, String> listener) {
+        failureListeners.remove(listener);
+    }
+
+    private static void flush(String offerId) {
+        while (true) {
+            PendingWrite write;
+            synchronized (OfferWriteQueue.class) {
+                write = pending.get(offerId);
+                if (write == null) {
+                    owned.remove(offerId);
+                    return;
+                }
+            }
+
+            try {
+                OfferRepository.updateStatus(offerId, write.status,
+                    Timestamp.ofTimeMicroseconds(TimeUnit.MILLISECONDS.toMicros(write.timestampMillis))).get();
+            } catch (Exception e) {
+                handleFailure(offerId, write, e);
+                return;
+            }
+
+            synchronized (OfferWriteQueue.class) {
+                PendingWrite latest = pending.get(offerId);
+                if (latest == write) {
+                    pending.remove(offerId);
+                    owned.remove(offerId);
+                    saveJournal();
+                    return;
+                }
+                // A newer status arrived while this one was in flight; what we just wrote is now the rollback target
+                if (latest != null) {
+                    latest.previousStatus = write.status;
+                    saveJournal();
+                }
+            }
+        }
+    }
+
+    private static void handleFailure(String offerId, PendingWrite failed, Exception e) {
+        String rollbackStatus;
+        synchronized (OfferWriteQueue.class) {
+            PendingWrite latest = pending.get(offerId);
+            if (latest == null) {
+                owned.remove(offerId);
+                return;
+            }
+            latest.attempts = Math.max(latest.attempts, failed.attempts) + 1;
+            if (latest.attempts < MAX_ATTEMPTS) {
+                long delay = BASE_BACKOFF_MILLIS << (latest.attempts - 1);
+                System.err.println("Offer " + offerId + " write failed (attempt " + latest.attempts + "), retrying in " + delay + " ms: " + e.getMessage());
+                AsyncService.schedule(() -> flush(offerId), delay, TimeUnit.MILLISECONDS);
+                return;
+            }
+            pending.remove(offerId);
+            owned.remove(offerId);
+            saveJournal();
+            rollbackStatus = latest.previousStatus;
+        }
+
+        System.err.println("Giving up on offer " + offerId + " after " + MAX_ATTEMPTS + " attempts: " + e.getMessage());
+        for (BiConsumer<String, String> listener : failureListeners) {
+            listener.accept(offerId, rollbackStatus);
+        }
+    }
+
+    // Journal format: offerId=status,timestampMillis,previousStatus
+    private static void saveJournal() {
+        Properties properties = new Properties();
+        for (Map.Entry<String, PendingWrite> entry : pending.entrySet()) {
+            PendingWrite write = entry.getValue();
+            properties.setProperty(entry.getKey(), write.status + "," + write.timestampMillis + ","
+                + (write.previousStatus != null ? write.previousStatus : ""));
+        }
+        try {
+            Files.createDirectories(journal.getParent());
+            Path temp = Files.createTempFile(journal.getParent(), "offer-writes", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                properties.store(writer, null);
+            }
+            Files.move(temp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to write offer journal: " + e.getMessage());
+        }
+    }
+
+    // Reads the journal on first use, before anything can overwrite it; callers hold the class lock
+    private static void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+        loadJournal();
+    }
+
+    // Entries already in memory are newer than the journal and take precedence
+    private static void loadJournal() {
+        if (!Files.exists(journal)) return;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(journal)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.err.println("Failed to read offer journal: " + e.getMessage());
+            return;
+        }
+        for (String offerId : properties.stringPropertyNames()) {
+            String[] parts = properties.getProperty(offerId).split(",", -1);
+            if (parts.length != 3) continue;
+            try {
+                pending.putIfAbsent(offerId, new PendingWrite(parts[0], Long.parseLong(parts[1]), parts[2].isEmpty() ? null : parts[2]));
+            } catch (NumberFormatException e) {
+                System.err.println("Skipping malformed offer journal entry " + offerId);
+            }
+        }
+    }
+}
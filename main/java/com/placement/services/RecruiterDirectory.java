@@ -0,0 +1,144 @@
+package com.placement.services;
+
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.placement.models.Recruiter;
+import com.placement.services.replica.LocalReplica;
+import com.placement.services.repository.RecruiterRepository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class RecruiterDirectory {
+    public static final String LOADING = "Loading...";
+    public static final String NO_COMPANY = "No Company Specified";
+    public static final String NO_COMPANY_NAME = "No Company Name";
+    public static final String ERROR = "Error Loading Company";
+
+    private static final int MAX_ENTRIES = 500;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    // Access-ordered, so the eldest entry is always the least recently used one
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static ListenerRegistration registration;
+
+    private static class Entry {
+        final Recruiter recruiter;
+        final long loadedAt;
+
+        Entry(Recruiter recruiter) {
+            this.recruiter = recruiter;
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > TTL_MILLIS;
+        }
+    }
+
+    // Memory-only lookup for cell value factories; never blocks on Firestore
+    public static String getCompanyName(String recruiterId) {
+        if (recruiterId == null || recruiterId.isEmpty()) return NO_COMPANY;
+        Recruiter recruiter = getCached(recruiterId);
+        if (recruiter == null) return LOADING;
+        if (recruiter.getId() == null) return ERROR;
+        String companyName = recruiter.getCompanyName();
+        return companyName != null && !companyName.isEmpty() ? companyName : NO_COMPANY_NAME;
+    }
+
+    public static synchronized Recruiter getCached(String recruiterId) {
+        Entry entry = entries.get(recruiterId);
+        if (entry == null) return null;
+        if (entry.isExpired()) {
+            entries.remove(recruiterId);
+            return null;
+        }
+        return entry.recruiter;
+    }
+
+    // Fills every missing or expired recruiter from the local replica, or else with one batched read,
+    // and runs onWarmed when done
+    public static void warm(Collection<String> recruiterIds, Runnable onWarmed) {
+        startListening();
+
+        Set<String> missing = new LinkedHashSet<>();
+        for (String id : recruiterIds) {
+            if (id == null || id.isEmpty()) continue;
+            Recruiter cached = getCached(id);
+            if (cached != null && cached.getId() != null) continue;
+            Recruiter local = LocalReplica.recruiters().get(id);
+            if (local != null) {
+                put(id, local);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            onWarmed.run();
+            return;
+        }
+
+        RecruiterRepository.findAll(missing).whenComplete((recruiters, error) -> {
+            if (error != null) {
+                System.err.println("Error warming recruiter directory: " + error.getMessage());
+                for (String id : missing) {
+                    // An entry without an id marks a failed load; it is retried on the next warm()
+                    put(id, new Recruiter());
+                }
+            } else {
+                recruiters.forEach(RecruiterDirectory::put);
+            }
+            onWarmed.run();
+        });
+    }
+
+    public static synchronized void invalidate(String recruiterId) {
+        entries.remove(recruiterId);
+    }
+
+    public static synchronized void clear() {
+        entries.clear();
+    }
+
+    public static synchronized void shutdown() {
+        if (registration != null) {
+            registration.remove();
+            registration = null;
+        }
+        entries.clear();
+    }
+
+    private static synchronized void put(String recruiterId, Recruiter recruiter) {
+        entries.put(recruiterId, new Entry(recruiter));
+    }
+
+    private static synchronized void startListening() {
+        if (registration != null) return;
+        registration = RecruiterRepository.listenAll((snapshot, error) -> {
+            if (error != null) {
+                System.err.println("Recruiter directory listener failed: " + error.getMessage());
+                return;
+            }
+            if (snapshot == null) return;
+            for (DocumentChange change : snapshot.getDocumentChanges()) {
+                String id = change.getDocument().getId();
+                if (change.getType() == DocumentChange.Type.REMOVED) {
+                    invalidate(id);
+                } else if (getCached(id) != null) {
+                    // Refresh entries we already hold; everything else stays lazily loaded
+                    put(id, RecruiterRepository.toRecruiter(change.getDocument()));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.placement.services;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.EventListener;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.placement.models.Candidate;
+import com.placement.models.Recruiter;
+import com.placement.services.replica.LocalReplica;
+import com.placement.services.repository.CandidateRepository;
+import com.placement.services.repository.RecruiterRepository;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// The logged-in user and their candidate or recruiter document. One snapshot listener on that
+// document keeps it current, so screens read it from here instead of going back to Firestore.
+// State is only changed on the FX thread.
+public class Session {
+    private final String userId;
+    private final String role;
+    private String name;
+    private Candidate candidate;
+    private Recruiter recruiter;
+    private boolean profileLoaded;
+    private final List<Runnable> onProfileLoaded = new ArrayList<>();
+    private ListenerRegistration registration;
+
+    Session(AuthResult auth) {
+        this.userId = auth.getUserId();
+        this.role = auth.getRole() != null ? auth.getRole().toLowerCase() : null;
+        this.name = auth.getName();
+    }
+
+    public String getUserId() { return userId; }
+    public String getRole() { return role; }
+    public String getName() { return name; }
+    public boolean isCandidate() { return "candidate".equals(role); }
+    public boolean isRecruiter() { return "recruiter".equals(role); }
+
+    // Null until the first snapshot arrives, or when the document does not exist
+    public Candidate getCandidate() { return candidate; }
+    public Recruiter getRecruiter() { return recruiter; }
+
+    // Runs the callback on the FX thread with the candidate document (possibly null) once it is known
+    public void whenCandidateReady(Consumer<Candidate> callback) {
+        whenProfileLoaded(() -> callback.accept(candidate));
+    }
+
+    public void whenRecruiterReady(Consumer<Recruiter> callback) {
+        whenProfileLoaded(() -> callback.accept(recruiter));
+    }
+
+    private void whenProfileLoaded(Runnable callback) {
+        if (profileLoaded) {
+            callback.run();
+        } else {
+            onProfileLoaded.add(callback);
+        }
+    }
+
+    // Takes a profile this client just saved, so the next screen does not wait for the listener to echo it back
+    public void applyCandidate(Candidate saved) {
+        candidate = saved;
+        if (saved != null && saved.getName() != null) name = saved.getName();
+        markLoaded();
+    }
+
+    void attach() {
+        seedFromReplica();
+        EventListener<DocumentSnapshot> listener = (snapshot, error) -> {
+            if (error != null) {
+                System.err.println("Session listener failed: " + error.getMessage());
+                Platform.runLater(() -> markLoaded());
+                return;
+            }
+            if (snapshot == null) return;
+            Platform.runLater(() -> apply(snapshot));
+        };
+        registration = isRecruiter()
+            ? RecruiterRepository.listen(userId, listener)
+            : CandidateRepository.listen(userId, listener);
+    }
+
+    void detach() {
+        if (registration != null) {
+            registration.remove();
+            registration = null;
+        }
+    }
+
+    // Lets screens open with the locally mirrored profile; the listener replaces it when it answers.
+    // The candidate mirror leaves out email and CV, so a candidate only takes the name from it.
+    private void seedFromReplica() {
+        if (isRecruiter()) {
+            recruiter = LocalReplica.recruiters().get(userId);
+            if (recruiter != null) markLoaded();
+        } else {
+            Candidate local = LocalReplica.candidates().get(userId);
+            if (local != null && local.getName() != null) name = local.getName();
+        }
+    }
+
+    private void apply(DocumentSnapshot snapshot) {
+        if (isRecruiter()) {
+            recruiter = snapshot.exists() ? RecruiterRepository.toRecruiter(snapshot) : null;
+        } else {
+            candidate = CandidateRepository.toCandidate(snapshot);
+            if (candidate != null && candidate.getName() != null) name = candidate.getName();
+        }
+        markLoaded();
+    }
+
+    private void markLoaded() {
+        if (profileLoaded) return;
+        profileLoaded = true;
+        List<Runnable> callbacks = new ArrayList<>(onProfileLoaded);
+        onProfileLoaded.clear();
+        callbacks.forEach(Runnable::run);
+    }
+}
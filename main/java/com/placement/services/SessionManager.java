@@ -0,0 +1,27 @@
+package com.placement.services;
+
+import com.placement.services.replica.ReplicaSync;
+
+public class SessionManager {
+    private static Session current;
+
+    public static synchronized Session start(AuthResult auth) {
+        end();
+        current = new Session(auth);
+        ReplicaSync.start(current.getUserId(), current.getRole());
+        current.attach();
+        return current;
+    }
+
+    public static synchronized Session getCurrent() {
+        return current;
+    }
+
+    public static synchronized void end() {
+        if (current != null) {
+            ReplicaSync.shutdown();
+            current.detach();
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.placement.services.cv;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Fixed set of reusable chunk-sized buffers. acquire() blocks once every buffer is in use, so CV
+// transfers never hold more than capacity * bufferSize bytes regardless of file size.
+public class BufferPool {
+    private final BlockingQueue<byte[]> free;
+    private final int bufferSize;
+
+    public BufferPool(int capacity, int bufferSize) {
+        this.free = new ArrayBlockingQueue<>(capacity);
+        this.bufferSize = bufferSize;
+        for (int i = 0; i < capacity; i++) {
+            free.add(new byte[bufferSize]);
+        }
+    }
+
+    public byte[] acquire() throws InterruptedException {
+        return free.take();
+    }
+
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length == bufferSize) {
+            free.offer(buffer);
+        }
+    }
+
+    public int getBufferSize() { return bufferSize; }
+}
@@ -0,0 +1,23 @@
+package com.placement.services.cv;
+
+import java.util.List;
+
+// Manifest of a stored CV: the SHA-256 of the whole file plus the ordered hashes of its chunks
+public class CvBlob {
+    private final String hash;
+    private final long size;
+    private final String mimeType;
+    private final List<String> chunks;
+
+    public CvBlob(String hash, long size, String mimeType, List<String> chunks) {
+        this.hash = hash;
+        this.size = size;
+        this.mimeType = mimeType;
+        this.chunks = List.copyOf(chunks);
+    }
+
+    public String getHash() { return hash; }
+    public long getSize() { return size; }
+    public String getMimeType() { return mimeType; }
+    public List<String> getChunks() { return chunks; }
+}
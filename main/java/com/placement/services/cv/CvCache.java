@@ -0,0 +1,185 @@
+package com.placement.services.cv;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Persistent, size-bounded cache of downloaded CVs named {candidateId}-{contentHash}.pdf. LRU order
+// survives restarts through file modification times, and every file is checked against its content
+// hash (read through a memory mapping) before it is first served in a session.
+public class CvCache {
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final int MAP_REGION = 64 * 1024 * 1024;
+
+    private static final Path directory = Path.of(System.getProperty("placement.cv.cacheDir",
+        Path.of(System.getProperty("user.home"), ".placement-consultancy", "cv-cache").toString()));
+    private static final long maxBytes = Long.getLong("placement.cv.cacheMaxBytes", DEFAULT_MAX_BYTES);
+
+    // Access-ordered: iteration starts at the least recently used file
+    private static final Map<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private static final Set<String> verified = new HashSet<>();
+    private static long totalBytes;
+    private static boolean loaded;
+
+    // Returns the cached CV, downloading it from storage only on a miss
+    public static Path fetch(String candidateId, String cvHash, CvStorage storage) throws IOException {
+        String key = candidateId + "-" + cvHash;
+        Path cached = lookup(key, cvHash);
+        if (cached != null) return cached;
+
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, key, ".part");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                storage.read(cvHash, out);
+            }
+            if (!cvHash.equals(hashOf(temp))) {
+                throw new IOException("Downloaded CV does not match its content hash");
+            }
+            Path target = directory.resolve(key + ".pdf");
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            admit(key, Files.size(target));
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static synchronized void invalidate(String candidateId) {
+        ensureLoaded();
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Long> entry = it.next();
+            if (entry.getKey().startsWith(candidateId + "-")) {
+                delete(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    private static Path lookup(String key, String cvHash) {
+        Path file = directory.resolve(key + ".pdf");
+        boolean needsCheck;
+        synchronized (CvCache.class) {
+            ensureLoaded();
+            if (entries.get(key) == null) return null;
+            needsCheck = !verified.contains(key);
+        }
+
+        if (needsCheck && !matches(file, cvHash)) {
+            System.err.println("Discarding corrupt cached CV " + key);
+            synchronized (CvCache.class) {
+                Long size = entries.remove(key);
+                if (size != null) delete(key, size);
+            }
+            return null;
+        }
+
+        synchronized (CvCache.class) {
+            verified.add(key);
+        }
+        try {
+            // Persist the recency so LRU order is kept across restarts
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            System.err.println("Failed to touch cached CV " + key + ": " + e.getMessage());
+        }
+        return file;
+    }
+
+    private static boolean matches(Path file, String cvHash) {
+        try {
+            return cvHash.equals(hashOf(file));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static synchronized void admit(String key, long size) {
+        ensureLoaded();
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        verified.add(key);
+
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            if (eldest.getKey().equals(key)) continue;
+            delete(eldest.getKey(), eldest.getValue());
+            it.remove();
+        }
+    }
+
+    private static void delete(String key, long size) {
+        totalBytes -= size;
+        verified.remove(key);
+        try {
+            Files.deleteIfExists(directory.resolve(key + ".pdf"));
+        } catch (IOException e) {
+            System.err.println("Failed to evict cached CV " + key + ": " + e.getMessage());
+        }
+    }
+
+    // Rebuilds the index from the cache directory, oldest files first
+    private static void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+        if (!Files.isDirectory(directory)) return;
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".part")) {
+                    Files.deleteIfExists(file); // left over from an interrupted download
+                } else if (name.endsWith(".pdf")) {
+                    files.add(file);
+                }
+            }
+            files.sort(Comparator.comparing(CvCache::lastModified));
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long size = Files.size(file);
+                entries.put(name.substring(0, name.length() - ".pdf".length()), size);
+                totalBytes += size;
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load CV cache index: " + e.getMessage());
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String hashOf(Path file) throws IOException {
+        MessageDigest digest = CvStorageService.sha256();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAP_REGION) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_REGION, size - position));
+                digest.update(region);
+            }
+        }
+        return CvStorageService.toHex(digest.digest());
+    }
+}
@@ -0,0 +1,18 @@
+package com.placement.services.cv;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+// Content-addressed CV store. Implementations split files into chunks keyed by their SHA-256,
+// so identical uploads share storage and chunk writes are idempotent.
+public interface CvStorage {
+    int CHUNK_SIZE = 512 * 1024; // well under Firestore's 1 MiB document limit
+
+    CvBlob write(Path file, String mimeType) throws IOException;
+
+    // Streams the content of the blob into out, one chunk at a time
+    void read(String hash, WritableByteChannel out) throws IOException;
+
+    boolean exists(String hash) throws IOException;
+}
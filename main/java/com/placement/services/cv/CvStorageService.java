@@ -0,0 +1,113 @@
+package com.placement.services.cv;
+
+import com.placement.services.FirebaseService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+public class CvStorageService {
+    public static final String PDF_MIME_TYPE = "application/pdf";
+
+    // Shared by uploads, downloads and legacy decoding; bounds CV memory to four chunks in total
+    static final BufferPool BUFFERS = new BufferPool(4, CvStorage.CHUNK_SIZE);
+
+    private static CvStorage storage;
+
+    // -Dplacement.cv.localStore=<dir> keeps CVs on the local filesystem instead of Firestore
+    public static synchronized CvStorage getStorage() {
+        if (storage == null) {
+            String localStore = System.getProperty("placement.cv.localStore");
+            storage = localStore != null
+                ? new LocalCvStorage(Path.of(localStore))
+                : new FirestoreCvStorage(FirebaseService.getFirestore());
+        }
+        return storage;
+    }
+
+    public static synchronized void setStorage(CvStorage cvStorage) {
+        storage = cvStorage;
+    }
+
+    // Decodes a legacy Base64 cvUrl value straight into out without materializing the decoded bytes
+    public static void decodeLegacy(String base64, WritableByteChannel out) throws IOException {
+        byte[] buffer = acquire();
+        try (InputStream in = Base64.getDecoder().wrap(new AsciiInputStream(base64))) {
+            int read;
+            while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                writeFully(out, ByteBuffer.wrap(buffer, 0, read));
+            }
+        } finally {
+            BUFFERS.release(buffer);
+        }
+    }
+
+    static byte[] acquire() throws IOException {
+        try {
+            return BUFFERS.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a CV buffer", e);
+        }
+    }
+
+    // Fills buffer from in, returning fewer than buffer.length bytes only at end of stream
+    static int readChunk(ReadableByteChannel in, byte[] buffer) throws IOException {
+        ByteBuffer target = ByteBuffer.wrap(buffer);
+        while (target.hasRemaining()) {
+            if (in.read(target) < 0) break;
+        }
+        return target.position();
+    }
+
+    static void writeFully(WritableByteChannel out, ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            out.write(data);
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String toHex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    // Presents the characters of a Base64 string as bytes without copying the string
+    private static class AsciiInputStream extends InputStream {
+        private final String text;
+        private int position;
+
+        AsciiInputStream(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read() {
+            return position < text.length() ? text.charAt(position++) & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (position >= text.length()) return -1;
+            int count = Math.min(len, text.length() - position);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = (byte) text.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.placement.services.cv;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.firestore.Blob;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteResult;
+import com.google.protobuf.ByteString;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+// Stores manifests in cv_blobs/{sha256} and chunk payloads in cv_chunks/{sha256}, away from the
+// candidate documents that list queries read
+public class FirestoreCvStorage implements CvStorage {
+    private static final int MAX_IN_FLIGHT_CHUNKS = 2;
+
+    private final CollectionReference blobs;
+    private final CollectionReference chunks;
+
+    public FirestoreCvStorage(Firestore db) {
+        this.blobs = db.collection("cv_blobs");
+        this.chunks = db.collection("cv_chunks");
+    }
+
+    @Override
+    public CvBlob write(Path file, String mimeType) throws IOException {
+        MessageDigest fileDigest = CvStorageService.sha256();
+        MessageDigest chunkDigest = CvStorageService.sha256();
+        List<String> chunkHashes = new ArrayList<>();
+        Deque<ApiFuture<WriteResult>> inFlight = new ArrayDeque<>();
+        long size = 0;
+
+        byte[] buffer = CvStorageService.acquire();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            while ((read = CvStorageService.readChunk(in, buffer)) > 0) {
+                fileDigest.update(buffer, 0, read);
+                chunkDigest.update(buffer, 0, read);
+                String chunkHash = CvStorageService.toHex(chunkDigest.digest());
+                chunkHashes.add(chunkHash);
+                size += read;
+
+                // The RPC needs its own copy since the buffer is reused for the next chunk
+                Map<String, Object> chunkData = new HashMap<>();
+                chunkData.put("data", Blob.fromByteString(ByteString.copyFrom(buffer, 0, read)));
+                chunkData.put("size", read);
+                inFlight.add(chunks.document(chunkHash).set(chunkData));
+                if (inFlight.size() >= MAX_IN_FLIGHT_CHUNKS) {
+                    await(inFlight.poll());
+                }
+            }
+        } finally {
+            CvStorageService.BUFFERS.release(buffer);
+        }
+
+        CvBlob blob = new CvBlob(CvStorageService.toHex(fileDigest.digest()), size, mimeType, chunkHashes);
+
+        Map<String, Object> manifest = new HashMap<>();
+        manifest.put("size", blob.getSize());
+        manifest.put("mimeType", blob.getMimeType());
+        manifest.put("chunks", blob.getChunks());
+
+        // The manifest is only written once every chunk it points to is stored
+        while (!inFlight.isEmpty()) {
+            await(inFlight.poll());
+        }
+        await(blobs.document(blob.getHash()).set(manifest));
+        return blob;
+    }
+
+    @Override
+    public void read(String hash, WritableByteChannel out) throws IOException {
+        DocumentSnapshot manifest = await(blobs.document(hash).get());
+        if (!manifest.exists()) {
+            throw new FileNotFoundException("CV " + hash + " not found");
+        }
+
+        @SuppressWarnings("unchecked")
+        List<String> chunkHashes = (List<String>) manifest.get("chunks");
+        if (chunkHashes == null || chunkHashes.isEmpty()) return;
+
+        // Keep one chunk in flight while the previous one is written out
+        ApiFuture<DocumentSnapshot> next = chunks.document(chunkHashes.get(0)).get();
+        for (int i = 0; i < chunkHashes.size(); i++) {
+            DocumentSnapshot chunk = await(next);
+            next = i + 1 < chunkHashes.size() ? chunks.document(chunkHashes.get(i + 1)).get() : null;
+            Blob data = chunk.getBlob("data");
+            if (data == null) {
+                throw new IOException("CV " + hash + " is missing chunk " + chunkHashes.get(i));
+            }
+            // Writes straight from the snapshot's bytes, no intermediate array
+            CvStorageService.writeFully(out, data.toByteString().asReadOnlyByteBuffer());
+        }
+    }
+
+    @Override
+    public boolean exists(String hash) throws IOException {
+        return await(blobs.document(hash).get()).exists();
+    }
+
+    private static <T> T await(ApiFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while accessing CV storage", e);
+        } catch (ExecutionException e) {
+            throw new IOException("CV storage request failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
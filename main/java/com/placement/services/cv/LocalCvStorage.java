@@ -0,0 +1,104 @@
+package com.placement.services.cv;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+// Filesystem backend with the same layout as the Firestore one: blobs/{sha256}.properties
+// manifests and chunks/{sha256} payloads. Handy for local development without Firestore.
+public class LocalCvStorage implements CvStorage {
+    private final Path blobsDir;
+    private final Path chunksDir;
+
+    public LocalCvStorage(Path root) {
+        this.blobsDir = root.resolve("blobs");
+        this.chunksDir = root.resolve("chunks");
+    }
+
+    @Override
+    public CvBlob write(Path file, String mimeType) throws IOException {
+        Files.createDirectories(blobsDir);
+        Files.createDirectories(chunksDir);
+
+        MessageDigest fileDigest = CvStorageService.sha256();
+        List<String> chunkHashes = new ArrayList<>();
+        long size = 0;
+
+        byte[] buffer = CvStorageService.acquire();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest chunkDigest = CvStorageService.sha256();
+            int read;
+            while ((read = CvStorageService.readChunk(in, buffer)) > 0) {
+                fileDigest.update(buffer, 0, read);
+                chunkDigest.update(buffer, 0, read);
+                String chunkHash = CvStorageService.toHex(chunkDigest.digest());
+                chunkHashes.add(chunkHash);
+                size += read;
+
+                Path target = chunksDir.resolve(chunkHash);
+                if (!Files.exists(target)) {
+                    Path temp = Files.createTempFile(chunksDir, chunkHash, ".tmp");
+                    try (FileChannel chunkOut = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                        CvStorageService.writeFully(chunkOut, ByteBuffer.wrap(buffer, 0, read));
+                    }
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+        } finally {
+            CvStorageService.BUFFERS.release(buffer);
+        }
+
+        CvBlob blob = new CvBlob(CvStorageService.toHex(fileDigest.digest()), size, mimeType, chunkHashes);
+
+        Properties manifest = new Properties();
+        manifest.setProperty("size", String.valueOf(blob.getSize()));
+        manifest.setProperty("mimeType", blob.getMimeType());
+        manifest.setProperty("chunks", String.join(",", blob.getChunks()));
+        try (Writer writer = Files.newBufferedWriter(blobsDir.resolve(blob.getHash() + ".properties"))) {
+            manifest.store(writer, null);
+        }
+        return blob;
+    }
+
+    @Override
+    public void read(String hash, WritableByteChannel out) throws IOException {
+        Path manifestFile = blobsDir.resolve(hash + ".properties");
+        if (!Files.exists(manifestFile)) {
+            throw new FileNotFoundException("CV " + hash + " not found");
+        }
+
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifestFile)) {
+            manifest.load(reader);
+        }
+
+        String chunks = manifest.getProperty("chunks", "");
+        if (chunks.isEmpty()) return;
+        for (String chunkHash : chunks.split(",")) {
+            try (FileChannel chunk = FileChannel.open(chunksDir.resolve(chunkHash), StandardOpenOption.READ)) {
+                long position = 0;
+                long length = chunk.size();
+                while (position < length) {
+                    position += chunk.transferTo(position, length - position, out);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        return Files.exists(blobsDir.resolve(hash + ".properties"));
+    }
+}
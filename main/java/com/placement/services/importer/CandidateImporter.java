@@ -0,0 +1,301 @@
+package com.placement.services.importer;
+
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.WriteBatch;
+import com.placement.models.Candidate;
+import com.placement.services.AsyncService;
+import com.placement.services.AuthService;
+import com.placement.services.FirebaseService;
+import com.placement.services.mapping.CandidateMapper;
+import com.placement.services.password.PasswordHashing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// Bulk candidate import from a CSV file whose header names the columns name, email and password
+// (required) and marks and qualification (optional), in any order and case. Rows are streamed: each
+// candidate becomes a users document, its user_emails entry and a candidates document, written
+// together in WriteBatches, and the reader waits whenever `concurrency` batches are in flight, so
+// memory stays bounded however long the file is. Emails are checked against an in-memory set of
+// every existing account and the rows read so far; the user_emails entry is created with create(),
+// so an account registered while the import runs is counted as a duplicate instead of being
+// overwritten. After each batch the number of leading rows fully handled is checkpointed, so an
+// interrupted import resumes where it stopped.
+// Rows without a password are invalid: an account without one could be claimed through Forgot Password.
+public class CandidateImporter {
+    public static final int DEFAULT_CONCURRENCY = 4;
+    private static final int MAX_BATCH_WRITES = 500;
+    private static final int CANDIDATES_PER_BATCH = MAX_BATCH_WRITES / 3;
+    private static final int EMAIL_PAGE_SIZE = 1000;
+
+    private final Path file;
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private Consumer<ImportProgress> onProgress = progress -> {};
+
+    private final AtomicLong recordsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    // Row ranges [from, to) whose batches have committed, keyed by from; merged into handledRows
+    private final TreeMap<Long, Long> handledRanges = new TreeMap<>();
+    private long handledRows;
+    private long resumedFrom;
+    private long startMillis;
+    private ImportCheckpoint checkpoint;
+
+    private static class Columns {
+        final int name;
+        final int email;
+        final int marks;
+        final int qualification;
+        final int password;
+
+        Columns(List<String> header) throws IOException {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                positions.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!positions.containsKey("name") || !positions.containsKey("email") || !positions.containsKey("password")) {
+                throw new IOException("The CSV header must contain name, email and password columns");
+            }
+            name = positions.get("name");
+            email = positions.get("email");
+            marks = positions.getOrDefault("marks", -1);
+            qualification = positions.getOrDefault("qualification", -1);
+            password = positions.get("password");
+        }
+    }
+
+    private static class NewCandidate {
+        final Candidate candidate = new Candidate();
+        String password;
+        String hashedPassword; // computed once, even if the candidate is written twice
+    }
+
+    public CandidateImporter(Path file) {
+        this.file = file;
+    }
+
+    public void setConcurrency(int concurrency) {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be positive");
+        this.concurrency = concurrency;
+    }
+
+    // Called after every committed batch and once at the end, on a background thread
+    public void setOnProgress(Consumer<ImportProgress> onProgress) { this.onProgress = onProgress; }
+
+    // Blocks until the whole file is imported, so call it off the FX thread. A failed batch stops the
+    // import with an IOException; running it again continues from the checkpoint.
+    public ImportProgress run() throws IOException, InterruptedException {
+        checkpoint = new ImportCheckpoint(file);
+        resumedFrom = checkpoint.load();
+        handledRows = resumedFrom;
+        startMillis = System.currentTimeMillis();
+        Firestore db = FirebaseService.getFirestore();
+        Set<String> knownEmails = loadExistingEmails(db);
+        Semaphore slots = new Semaphore(concurrency);
+
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<String> header = csv.next();
+            if (header == null) throw new IOException("The CSV file is empty");
+            Columns columns = new Columns(header);
+
+            List<NewCandidate> pending = new ArrayList<>(CANDIDATES_PER_BATCH);
+            long batchStart = resumedFrom;
+            long row = 0;
+            List<String> fields;
+            while (failure.get() == null && (fields = csv.next()) != null) {
+                recordsRead.set(++row);
+                if (row <= resumedFrom) continue;
+
+                NewCandidate candidate = parse(fields, columns, csv.getRecordLine());
+                if (candidate == null) {
+                    invalid.incrementAndGet();
+                    continue;
+                }
+                if (!knownEmails.add(candidate.candidate.getEmail())) {
+                    duplicates.incrementAndGet();
+                    continue;
+                }
+                pending.add(candidate);
+                if (pending.size() == CANDIDATES_PER_BATCH) {
+                    submit(db, pending, batchStart, row, slots);
+                    pending = new ArrayList<>(CANDIDATES_PER_BATCH);
+                    batchStart = row;
+                }
+            }
+            // Also covers trailing invalid and duplicate rows, so the checkpoint reaches the end
+            if (failure.get() == null) submit(db, pending, batchStart, row, slots);
+        } finally {
+            slots.acquire(concurrency); // wait for the batches still in flight
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new IOException("Import stopped after " + imported.get() + " candidates: " + error.getMessage(), error);
+        }
+        checkpoint.delete();
+        ImportProgress result = progress(true);
+        onProgress.accept(result);
+        return result;
+    }
+
+    private NewCandidate parse(List<String> fields, Columns columns, long line) {
+        String name = field(fields, columns.name);
+        String email = field(fields, columns.email);
+        String password = field(fields, columns.password);
+        if (name == null || email == null || !email.contains("@") || password == null) {
+            System.err.println("Skipping CSV line " + line + ": name, a valid email and a password are required");
+            return null;
+        }
+
+        NewCandidate result = new NewCandidate();
+        result.candidate.setName(name);
+        result.candidate.setEmail(AuthService.normalizeEmail(email));
+        result.candidate.setQualification(field(fields, columns.qualification));
+        result.password = password;
+        String marks = field(fields, columns.marks);
+        if (marks != null) {
+            try {
+                double value = Double.parseDouble(marks);
+                if (value < 0 || value > 100) throw new NumberFormatException();
+                result.candidate.setMarks(value);
+            } catch (NumberFormatException e) {
+                System.err.println("Skipping CSV line " + line + ": marks must be a number between 0 and 100");
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size()) return null;
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Emails of every account, read as a projection of the users collection a page at a time
+    private static Set<String> loadExistingEmails(Firestore db) throws IOException, InterruptedException {
+        Set<String> emails = new HashSet<>();
+        Query base = db.collection("users").select("email").orderBy(FieldPath.documentId()).limit(EMAIL_PAGE_SIZE);
+        QueryDocumentSnapshot last = null;
+        try {
+            while (true) {
+                QuerySnapshot page = (last == null ? base : base.startAfter(last)).get().get();
+                for (QueryDocumentSnapshot doc : page.getDocuments()) {
+                    String email = doc.getString("email");
+                    if (email != null) emails.add(AuthService.normalizeEmail(email));
+                }
+                if (page.size() < EMAIL_PAGE_SIZE) return emails;
+                last = page.getDocuments().get(page.size() - 1);
+            }
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to load existing accounts: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    // Commits the candidates read from rows (fromRow, toRow] as one batch once a slot is free
+    private void submit(Firestore db, List<NewCandidate> candidates, long fromRow, long toRow, Semaphore slots)
+            throws InterruptedException {
+        if (candidates.isEmpty()) {
+            markHandled(fromRow, toRow);
+            return;
+        }
+        slots.acquire();
+        AsyncService.submit(() -> {
+            try {
+                WriteBatch batch = db.batch();
+                for (NewCandidate candidate : candidates) {
+                    add(db, batch, candidate);
+                }
+                try {
+                    batch.commit().get();
+                    imported.addAndGet(candidates.size());
+                } catch (ExecutionException e) {
+                    if (!AuthService.isAlreadyExists(e.getCause())) throw e;
+                    // One of the emails was registered after the import started. The batch was rolled
+                    // back as a whole, so write its candidates one at a time to skip just that one.
+                    commitEach(db, candidates);
+                }
+                markHandled(fromRow, toRow);
+            } catch (Exception e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                failure.compareAndSet(null, cause);
+                System.err.println("Import batch for rows " + (fromRow + 1) + "-" + toRow + " failed: " + cause.getMessage());
+            } finally {
+                slots.release();
+            }
+            onProgress.accept(progress(false));
+        });
+    }
+
+    private void commitEach(Firestore db, List<NewCandidate> candidates)
+            throws ExecutionException, InterruptedException, NoSuchAlgorithmException {
+        for (NewCandidate candidate : candidates) {
+            WriteBatch batch = db.batch();
+            add(db, batch, candidate);
+            try {
+                batch.commit().get();
+                imported.incrementAndGet();
+            } catch (ExecutionException e) {
+                if (!AuthService.isAlreadyExists(e.getCause())) throw e;
+                duplicates.incrementAndGet();
+            }
+        }
+    }
+
+    private static void add(Firestore db, WriteBatch batch, NewCandidate row) throws NoSuchAlgorithmException {
+        Candidate candidate = row.candidate;
+        String userId = db.collection("users").document().getId();
+        if (row.hashedPassword == null) row.hashedPassword = PasswordHashing.hash(row.password);
+
+        Map<String, Object> user = new HashMap<>();
+        user.put("name", candidate.getName());
+        user.put("email", candidate.getEmail());
+        user.put("role", "candidate");
+        user.put("password", row.hashedPassword);
+        batch.set(db.collection("users").document(userId), user);
+        batch.create(db.collection("user_emails").document(AuthService.emailKey(candidate.getEmail())),
+            AuthService.emailIndexData(userId, "candidate", candidate.getName(), row.hashedPassword));
+
+        Map<String, Object> candidateData = CandidateMapper.toData(candidate);
+        candidateData.put("userId", userId);
+        batch.set(db.collection("candidates").document(userId), candidateData);
+    }
+
+    private synchronized void markHandled(long fromRow, long toRow) {
+        handledRanges.put(fromRow, toRow);
+        long before = handledRows;
+        Long next;
+        while ((next = handledRanges.remove(handledRows)) != null) {
+            handledRows = next;
+        }
+        if (handledRows != before) checkpoint.save(handledRows);
+    }
+
+    private ImportProgress progress(boolean finished) {
+        return new ImportProgress(recordsRead.get(), imported.get(), duplicates.get(), invalid.get(), resumedFrom,
+            System.currentTimeMillis() - startMillis, finished);
+    }
+}
@@ -0,0 +1,118 @@
+package com.placement.services.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Streaming RFC 4180 reader: quoted fields may hold commas, doubled quotes and line breaks, and
+// lines may end in LF or CRLF. Only the current record is held in memory. Blank lines are skipped.
+class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean started;
+    private long line = 1;
+    private long recordLine;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Fields of the next record, or null at the end of the input
+    List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c < 0) return null;
+            if (c == '\n' || c == '\r') {
+                if (c == '\n') line++;
+                continue;
+            }
+            recordLine = line;
+            return readRecord(c);
+        }
+    }
+
+    // 1-based line the last record returned by next() started on
+    long getRecordLine() { return recordLine; }
+
+    private List<String> readRecord(int c) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (c < 0) {
+                fields.add(field.toString());
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = peek();
+                    if (following == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && peek() == '\n') read();
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (!fill()) return -1;
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (!fill()) return -1;
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) return true;
+        limit = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        // Skip a byte order mark left by spreadsheet exports
+        if (!started) {
+            started = true;
+            if (buffer[0] == '\uFEFF') position = 1;
+            return position < limit || fill();
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,68 @@
+package com.placement.services.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+// Number of leading data rows of a CSV file that an import has fully handled, stored next to the
+// file as <name>.import-checkpoint. It is only trusted while the file's size and modification
+// time are unchanged.
+class ImportCheckpoint {
+    private final Path file;
+    private final Path checkpoint;
+    private final long size;
+    private final long lastModified;
+
+    ImportCheckpoint(Path file) throws IOException {
+        this.file = file;
+        this.checkpoint = file.resolveSibling(file.getFileName() + ".import-checkpoint");
+        this.size = Files.size(file);
+        this.lastModified = Files.getLastModifiedTime(file).toMillis();
+    }
+
+    // Rows to skip when resuming, 0 when there is no usable checkpoint
+    long load() {
+        if (!Files.exists(checkpoint)) return 0;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpoint)) {
+            properties.load(reader);
+            if (Long.parseLong(properties.getProperty("size", "-1")) != size
+                || Long.parseLong(properties.getProperty("lastModified", "-1")) != lastModified) {
+                System.err.println("Ignoring import checkpoint for " + file + ", the file has changed");
+                return 0;
+            }
+            return Long.parseLong(properties.getProperty("rows", "0"));
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Failed to read import checkpoint: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    void save(long rows) {
+        Properties properties = new Properties();
+        properties.setProperty("size", String.valueOf(size));
+        properties.setProperty("lastModified", String.valueOf(lastModified));
+        properties.setProperty("rows", String.valueOf(rows));
+        try {
+            Path temp = Files.createTempFile(checkpoint.getParent(), "import-checkpoint", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                properties.store(writer, null);
+            }
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to write import checkpoint: " + e.getMessage());
+        }
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(checkpoint);
+        } catch (IOException e) {
+            System.err.println("Failed to delete import checkpoint: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.placement.services.importer;
+
+// Snapshot of a running or finished candidate import
+public class ImportProgress {
+    private final long recordsRead;
+    private final long imported;
+    private final long duplicates;
+    private final long invalid;
+    private final long resumedFrom;
+    private final long elapsedMillis;
+    private final boolean finished;
+
+    ImportProgress(long recordsRead, long imported, long duplicates, long invalid, long resumedFrom,
+                   long elapsedMillis, boolean finished) {
+        this.recordsRead = recordsRead;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.invalid = invalid;
+        this.resumedFrom = resumedFrom;
+        this.elapsedMillis = elapsedMillis;
+        this.finished = finished;
+    }
+
+    // Data rows parsed so far, including rows skipped because an earlier run already handled them
+    public long getRecordsRead() { return recordsRead; }
+
+    // Candidates committed to Firestore in this run
+    public long getImported() { return imported; }
+
+    // Rows whose email already has an account, or appeared earlier in the file
+    public long getDuplicates() { return duplicates; }
+
+    // Rows without a usable name, email or marks
+    public long getInvalid() { return invalid; }
+
+    // Rows a previous, interrupted run had already handled
+    public long getResumedFrom() { return resumedFrom; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    public boolean isFinished() { return finished; }
+
+    public double getCandidatesPerSecond() {
+        return elapsedMillis > 0 ? imported * 1000.0 / elapsedMillis : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d read, %d imported, %d duplicates, %d invalid in %.1f s (%.0f candidates/s)",
+            recordsRead, imported, duplicates, invalid, elapsedMillis / 1000.0, getCandidatesPerSecond());
+    }
+}
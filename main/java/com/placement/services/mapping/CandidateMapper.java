@@ -0,0 +1,94 @@
+package com.placement.services.mapping;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldValue;
+import com.placement.models.Candidate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Hand-written mapping between candidate documents and Candidate, used instead of the reflective
+// toObject()/set(pojo). The WithoutCv variants leave out the legacy inline Base64 CV, which can be
+// megabytes, and only record whether one exists; use them wherever candidates are listed.
+public class CandidateMapper {
+    public static final String CV_URL = "cvUrl";
+    // Sign-up used to write the legacy CV field under this name
+    public static final String LEGACY_CV_URL = "cv_url";
+    // Fields the local replica keeps for each candidate. Email and the CV payload are left out; a
+    // legacy CV is only recorded as the LEGACY_CV flag.
+    public static final String[] REPLICA_FIELDS = {"name", "marks", "qualification", "cvHash", "cvSize", "cvMimeType", "updatedAt"};
+    public static final String LEGACY_CV = "legacyCv";
+
+    public static Candidate fromData(String id, Map<String, Object> data) {
+        return read(id, data::get, true);
+    }
+
+    public static Candidate fromDataWithoutCv(String id, Map<String, Object> data) {
+        return read(id, data::get, false);
+    }
+
+    // Null when the document does not exist
+    public static Candidate fromSnapshot(DocumentSnapshot snapshot) {
+        return snapshot.exists() ? read(snapshot.getId(), snapshot::get, true) : null;
+    }
+
+    public static Candidate fromSnapshotWithoutCv(DocumentSnapshot snapshot) {
+        return snapshot.exists() ? read(snapshot.getId(), snapshot::get, false) : null;
+    }
+
+    // Fields to merge into the document. The CV descriptor and legacy payload are only written when
+    // the candidate holds them, so a candidate read without its CV never clears one; updatedAt is
+    // always stamped by the server for replica sync.
+    public static Map<String, Object> toData(Candidate candidate) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", candidate.getName());
+        data.put("email", candidate.getEmail());
+        data.put("marks", candidate.getMarks());
+        data.put("qualification", candidate.getQualification());
+        if (candidate.getCvHash() != null) {
+            data.put("cvHash", candidate.getCvHash());
+            data.put("cvSize", candidate.getCvSize());
+            data.put("cvMimeType", candidate.getCvMimeType());
+        }
+        if (candidate.getCvUrl() != null) data.put(CV_URL, candidate.getCvUrl());
+        data.put("updatedAt", FieldValue.serverTimestamp());
+        return data;
+    }
+
+    // Reduces a (whole or projected) candidate document to what the local replica stores
+    public static Map<String, Object> toReplicaData(Map<String, Object> data) {
+        Map<String, Object> kept = new HashMap<>();
+        for (String field : REPLICA_FIELDS) {
+            Object value = data.get(field);
+            if (value != null) kept.put(field, value);
+        }
+        if (Boolean.TRUE.equals(data.get(LEGACY_CV))
+                || DocumentFields.hasText(data.get(CV_URL)) || DocumentFields.hasText(data.get(LEGACY_CV_URL))) {
+            kept.put(LEGACY_CV, true);
+        }
+        return kept;
+    }
+
+    private static Candidate read(String id, Function<String, Object> fields, boolean withCv) {
+        Candidate candidate = new Candidate();
+        candidate.setId(id);
+        candidate.setName(DocumentFields.string(fields.apply("name")));
+        candidate.setEmail(DocumentFields.string(fields.apply("email")));
+        candidate.setMarks(DocumentFields.number(fields.apply("marks")));
+        candidate.setQualification(DocumentFields.string(fields.apply("qualification")));
+        candidate.setCvHash(DocumentFields.string(fields.apply("cvHash")));
+        candidate.setCvSize(DocumentFields.wholeNumber(fields.apply("cvSize")));
+        candidate.setCvMimeType(DocumentFields.string(fields.apply("cvMimeType")));
+        candidate.setUpdatedAt(DocumentFields.timestamp(fields.apply("updatedAt")));
+
+        Object legacyCv = fields.apply(CV_URL);
+        if (legacyCv == null) legacyCv = fields.apply(LEGACY_CV_URL);
+        if (withCv) {
+            candidate.setCvUrl(DocumentFields.string(legacyCv));
+        } else {
+            candidate.setLegacyCv(DocumentFields.hasText(legacyCv) || Boolean.TRUE.equals(fields.apply(LEGACY_CV)));
+        }
+        return candidate;
+    }
+}
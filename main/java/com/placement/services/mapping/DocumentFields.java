@@ -0,0 +1,33 @@
+package com.placement.services.mapping;
+
+import com.google.cloud.Timestamp;
+
+// Lenient conversions of decoded Firestore values: a field of an unexpected type reads as absent
+// instead of failing the whole document, and numbers may arrive as Long or Double
+final class DocumentFields {
+    private DocumentFields() {}
+
+    static String string(Object value) {
+        return value instanceof String ? (String) value : null;
+    }
+
+    static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    static Double nullableNumber(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    static long wholeNumber(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    static Timestamp timestamp(Object value) {
+        return value instanceof Timestamp ? (Timestamp) value : null;
+    }
+
+    static boolean hasText(Object value) {
+        return value instanceof String && !((String) value).isBlank();
+    }
+}
@@ -0,0 +1,46 @@
+package com.placement.services.mapping;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldValue;
+import com.placement.models.Offer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Hand-written mapping between offer documents and Offer
+public class OfferMapper {
+
+    public static Offer fromData(String id, Map<String, Object> data) {
+        return read(id, data::get);
+    }
+
+    // Null when the document does not exist
+    public static Offer fromSnapshot(DocumentSnapshot snapshot) {
+        return snapshot.exists() ? read(snapshot.getId(), snapshot::get) : null;
+    }
+
+    // Document for a new offer; updatedAt is stamped by the server
+    public static Map<String, Object> toData(Offer offer) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("candidateId", offer.getCandidateId());
+        data.put("recruiterId", offer.getRecruiterId());
+        data.put("status", offer.getStatus());
+        data.put("timestamp", offer.getTimestamp());
+        data.put("estimatedSalary", offer.getEstimatedSalary());
+        data.put("updatedAt", FieldValue.serverTimestamp());
+        return data;
+    }
+
+    private static Offer read(String id, Function<String, Object> fields) {
+        Offer offer = new Offer();
+        offer.setId(id);
+        offer.setCandidateId(DocumentFields.string(fields.apply("candidateId")));
+        offer.setRecruiterId(DocumentFields.string(fields.apply("recruiterId")));
+        offer.setStatus(DocumentFields.string(fields.apply("status")));
+        offer.setTimestamp(DocumentFields.timestamp(fields.apply("timestamp")));
+        offer.setEstimatedSalary(DocumentFields.nullableNumber(fields.apply("estimatedSalary")));
+        offer.setUpdatedAt(DocumentFields.timestamp(fields.apply("updatedAt")));
+        return offer;
+    }
+}
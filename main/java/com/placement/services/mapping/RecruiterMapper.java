@@ -0,0 +1,41 @@
+package com.placement.services.mapping;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.placement.models.Recruiter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Hand-written mapping from recruiter documents to Recruiter
+public class RecruiterMapper {
+    // Fields the local replica keeps for each recruiter; candidates only need the company to show
+    public static final String[] REPLICA_FIELDS = {"companyName", "industry", "updatedAt"};
+
+    public static Recruiter fromData(String id, Map<String, Object> data) {
+        return read(id, data::get);
+    }
+
+    // Null when the document does not exist
+    public static Recruiter fromSnapshot(DocumentSnapshot snapshot) {
+        return snapshot.exists() ? read(snapshot.getId(), snapshot::get) : null;
+    }
+
+    public static Map<String, Object> toReplicaData(Map<String, Object> data) {
+        Map<String, Object> kept = new HashMap<>();
+        for (String field : REPLICA_FIELDS) {
+            Object value = data.get(field);
+            if (value != null) kept.put(field, value);
+        }
+        return kept;
+    }
+
+    private static Recruiter read(String id, Function<String, Object> fields) {
+        Recruiter recruiter = new Recruiter();
+        recruiter.setId(id);
+        recruiter.setCompanyName(DocumentFields.string(fields.apply("companyName")));
+        recruiter.setEmail(DocumentFields.string(fields.apply("email")));
+        recruiter.setIndustry(DocumentFields.string(fields.apply("industry")));
+        return recruiter;
+    }
+}
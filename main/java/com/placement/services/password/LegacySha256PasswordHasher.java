@@ -0,0 +1,38 @@
+package com.placement.services.password;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// The original unsalted SHA-256 hex hashes. Only used to verify accounts that have not logged in
+// since PBKDF2 was introduced; they are rehashed on their next successful login.
+public class LegacySha256PasswordHasher implements PasswordHasher {
+
+    @Override
+    public String hash(String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public boolean verify(String password, String encodedHash) {
+        return supports(encodedHash) && MessageDigest.isEqual(
+            hash(password).getBytes(StandardCharsets.US_ASCII),
+            encodedHash.toLowerCase().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public boolean supports(String encodedHash) {
+        return encodedHash != null && encodedHash.length() == 64 && encodedHash.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+    }
+
+    @Override
+    public boolean needsRehash(String encodedHash) {
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.placement.services.password;
+
+public interface PasswordHasher {
+    // Produces a self-describing encoded hash, including any salt and work factor
+    String hash(String password);
+
+    boolean verify(String password, String encodedHash);
+
+    // True when the encoded hash was produced by this hasher
+    boolean supports(String encodedHash);
+
+    // True when the hash is valid for this hasher but weaker than its current settings
+    default boolean needsRehash(String encodedHash) {
+        return false;
+    }
+}
@@ -0,0 +1,81 @@
+package com.placement.services.password;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Entry point for password hashing. Hashing is deliberately slow, so it runs on its own small pool
+// and a burst of logins queues here instead of occupying the shared background executor.
+public class PasswordHashing {
+    // Tune with -Dplacement.auth.pbkdf2Iterations; see the password hashing benchmark for timings
+    public static final int DEFAULT_ITERATIONS = 310_000;
+
+    private static final PasswordHasher current =
+        new Pbkdf2PasswordHasher(Integer.getInteger("placement.auth.pbkdf2Iterations", DEFAULT_ITERATIONS));
+    private static final PasswordHasher legacy = new LegacySha256PasswordHasher();
+
+    private static final ExecutorService pool = Executors.newFixedThreadPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() / 2), new HashingThreadFactory());
+
+    public static class Verification {
+        private final boolean valid;
+        private final String upgradedHash;
+
+        Verification(boolean valid, String upgradedHash) {
+            this.valid = valid;
+            this.upgradedHash = upgradedHash;
+        }
+
+        public boolean isValid() { return valid; }
+
+        // New encoded hash to store when the old one was legacy or below the current work factor, else null
+        public String getUpgradedHash() { return upgradedHash; }
+    }
+
+    public static String hash(String password) {
+        return run(() -> current.hash(password));
+    }
+
+    public static Verification verify(String password, String encodedHash) {
+        return run(() -> {
+            PasswordHasher hasher = current.supports(encodedHash) ? current : legacy;
+            if (!hasher.verify(password, encodedHash)) {
+                return new Verification(false, null);
+            }
+            boolean rehash = hasher != current || current.needsRehash(encodedHash);
+            return new Verification(true, rehash ? current.hash(password) : null);
+        });
+    }
+
+    public static void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static <T> T run(Callable<T> task) {
+        Future<T> future = pool.submit(task);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.placement.services.password;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+// PBKDF2-HMAC-SHA256 with a random per-user salt. Encoded as pbkdf2-sha256$iterations$salt$hash
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+    public static final String PREFIX = "pbkdf2-sha256";
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private final int iterations;
+    private final SecureRandom random = new SecureRandom();
+
+    public Pbkdf2PasswordHasher(int iterations) {
+        if (iterations < 1) throw new IllegalArgumentException("iterations must be positive");
+        this.iterations = iterations;
+    }
+
+    public int getIterations() { return iterations; }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] key = derive(password, salt, iterations, KEY_BITS);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(key);
+    }
+
+    @Override
+    public boolean verify(String password, String encodedHash) {
+        String[] parts = split(encodedHash);
+        if (parts == null) return false;
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            byte[] actual = derive(password, salt, storedIterations, expected.length * 8);
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supports(String encodedHash) {
+        return split(encodedHash) != null;
+    }
+
+    @Override
+    public boolean needsRehash(String encodedHash) {
+        String[] parts = split(encodedHash);
+        try {
+            return parts == null || Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static String[] split(String encodedHash) {
+        if (encodedHash == null || !encodedHash.startsWith(PREFIX + "$")) return null;
+        String[] parts = encodedHash.split("\\$");
+        return parts.length == 4 ? parts : null;
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations, int keyBits) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, keyBits);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.placement.services.replica;
+
+import com.placement.models.Candidate;
+import com.placement.models.Offer;
+import com.placement.models.Recruiter;
+import com.placement.services.mapping.CandidateMapper;
+import com.placement.services.mapping.OfferMapper;
+import com.placement.services.mapping.RecruiterMapper;
+
+import java.nio.file.Path;
+
+// File-backed mirrors of the candidates, offers and recruiters collections, kept current by
+// ReplicaSync. Dashboards read these first so they render without waiting for (or reaching) Firestore.
+// Candidates and recruiters are stored without email or legacy CV payload; ReplicaSync decides
+// which of the three the logged-in user mirrors.
+public class LocalReplica {
+    private static final Path directory = Path.of(System.getProperty("placement.replica.dir",
+        Path.of(System.getProperty("user.home"), ".placement-consultancy", "replica").toString()));
+
+    private static final ReplicaCollection<Candidate> candidates = new ReplicaCollection<>("candidates", directory,
+        CandidateMapper::fromDataWithoutCv, CandidateMapper.REPLICA_FIELDS, CandidateMapper::toReplicaData);
+    private static final ReplicaCollection<Offer> offers = new ReplicaCollection<>("offers", directory, OfferMapper::fromData);
+    private static final ReplicaCollection<Recruiter> recruiters = new ReplicaCollection<>("recruiters", directory,
+        RecruiterMapper::fromData, RecruiterMapper.REPLICA_FIELDS, RecruiterMapper::toReplicaData);
+
+    public static ReplicaCollection<Candidate> candidates() {
+        candidates.open();
+        return candidates;
+    }
+
+    public static ReplicaCollection<Offer> offers() {
+        offers.open();
+        return offers;
+    }
+
+    public static ReplicaCollection<Recruiter> recruiters() {
+        recruiters.open();
+        return recruiters;
+    }
+
+    public static void close() {
+        candidates.close();
+        offers.close();
+        recruiters.close();
+    }
+}
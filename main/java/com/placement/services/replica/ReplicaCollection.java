@@ -0,0 +1,220 @@
+package com.placement.services.replica;
+
+import com.google.cloud.Timestamp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// Local mirror of one Firestore collection. Documents are kept in memory, indexed by id, and every
+// change is appended to a ReplicaLog so the mirror is available immediately on the next start.
+// Reads never touch the network.
+public class ReplicaCollection<T> {
+    // Compact once the log holds this many times more records than there are live documents
+    private static final int COMPACTION_RATIO = 4;
+    private static final int MIN_COMPACTION_RECORDS = 1000;
+
+    private final String name;
+    private final ReplicaLog log;
+    // Names the subset of the collection the mirror holds (e.g. one recruiter's offers)
+    private final Path scopeFile;
+    private final BiFunction<String, Map<String, Object>, T> decoder;
+    private final String[] fields;
+    private final UnaryOperator<Map<String, Object>> encoder;
+    private final Map<String, Map<String, Object>> documents = new HashMap<>();
+    private final List<BiConsumer<String, T>> listeners = new CopyOnWriteArrayList<>();
+    private Timestamp watermark;
+    private boolean open;
+
+    ReplicaCollection(String name, Path directory, BiFunction<String, Map<String, Object>, T> decoder) {
+        this(name, directory, decoder, null, UnaryOperator.identity());
+    }
+
+    // fields is the projection ReplicaSync downloads (null for whole documents); encoder reduces every
+    // stored document to what the mirror keeps, including documents read back from an older log
+    ReplicaCollection(String name, Path directory, BiFunction<String, Map<String, Object>, T> decoder,
+                      String[] fields, UnaryOperator<Map<String, Object>> encoder) {
+        this.name = name;
+        this.log = new ReplicaLog(directory.resolve(name + ".log"));
+        this.scopeFile = directory.resolve(name + ".scope");
+        this.decoder = decoder;
+        this.fields = fields;
+        this.encoder = encoder;
+    }
+
+    public String getName() { return name; }
+
+    String[] getFields() { return fields; }
+
+    synchronized void open() {
+        if (open) return;
+        open = true;
+        try {
+            log.open(new ReplicaLog.Visitor() {
+                @Override
+                public void put(String id, Map<String, Object> data) { documents.put(id, encoder.apply(data)); }
+
+                @Override
+                public void delete(String id) { documents.remove(id); }
+
+                @Override
+                public void watermark(Timestamp value) { watermark = value; }
+            });
+        } catch (IOException e) {
+            // Keep serving from memory; the replica refills from the next full sync
+            System.err.println("Failed to open replica " + name + ": " + e.getMessage());
+            documents.clear();
+            watermark = null;
+        }
+    }
+
+    public synchronized T get(String id) {
+        Map<String, Object> data = documents.get(id);
+        return data != null ? decoder.apply(id, data) : null;
+    }
+
+    public synchronized List<T> query(Predicate<T> filter) {
+        List<T> matches = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> entry : documents.entrySet()) {
+            T value = decoder.apply(entry.getKey(), entry.getValue());
+            if (filter.test(value)) matches.add(value);
+        }
+        return matches;
+    }
+
+    // Hands the current documents to onSnapshot and registers listener for every later change, with
+    // no change slipping in between. The listener receives (id, value) after each upsert and
+    // (id, null) after each removal.
+    public synchronized void subscribe(Consumer<List<T>> onSnapshot, BiConsumer<String, T> listener) {
+        onSnapshot.accept(query(value -> true));
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(BiConsumer<String, T> listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    // Latest updatedAt pulled by the sync engine, or null before the first full sync
+    public synchronized Timestamp getWatermark() {
+        return watermark;
+    }
+
+    public synchronized void upsert(String id, Map<String, Object> data) {
+        data = encoder.apply(data);
+        if (data.equals(documents.get(id))) return;
+        documents.put(id, data);
+        try {
+            log.appendPut(id, data);
+        } catch (IOException e) {
+            System.err.println("Failed to append to replica " + name + ": " + e.getMessage());
+        }
+        maybeCompact();
+        notifyChanged(id, data);
+    }
+
+    public synchronized void remove(String id) {
+        if (documents.remove(id) == null) return;
+        try {
+            log.appendDelete(id);
+        } catch (IOException e) {
+            System.err.println("Failed to append to replica " + name + ": " + e.getMessage());
+        }
+        maybeCompact();
+        notifyChanged(id, null);
+    }
+
+    // Drops every local document whose id is not in liveIds
+    synchronized void retainOnly(Set<String> liveIds) {
+        Iterator<String> it = documents.keySet().iterator();
+        while (it.hasNext()) {
+            String id = it.next();
+            if (liveIds.contains(id)) continue;
+            it.remove();
+            try {
+                log.appendDelete(id);
+            } catch (IOException e) {
+                System.err.println("Failed to append to replica " + name + ": " + e.getMessage());
+            }
+            notifyChanged(id, null);
+        }
+        maybeCompact();
+    }
+
+    // Empties the mirror unless it already holds scope; a null scope means nothing is mirrored
+    synchronized void useScope(String scope) {
+        String stored = null;
+        try {
+            if (Files.exists(scopeFile)) stored = Files.readString(scopeFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Failed to read replica scope " + name + ": " + e.getMessage());
+        }
+        if (stored != null && stored.equals(scope)) return;
+
+        retainOnly(Set.of());
+        watermark = null;
+        try {
+            log.compact(documents, null);
+            if (scope != null) {
+                Files.writeString(scopeFile, scope, StandardCharsets.UTF_8);
+            } else {
+                Files.deleteIfExists(scopeFile);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to reset replica " + name + ": " + e.getMessage());
+        }
+    }
+
+    synchronized void advanceWatermark(Timestamp value) {
+        if (value == null || (watermark != null && value.compareTo(watermark) <= 0)) return;
+        watermark = value;
+        try {
+            log.appendWatermark(value);
+        } catch (IOException e) {
+            System.err.println("Failed to append to replica " + name + ": " + e.getMessage());
+        }
+    }
+
+    synchronized void close() {
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close replica " + name + ": " + e.getMessage());
+        }
+        open = false;
+    }
+
+    private void notifyChanged(String id, Map<String, Object> data) {
+        if (listeners.isEmpty()) return;
+        T value = data != null ? decoder.apply(id, data) : null;
+        for (BiConsumer<String, T> listener : listeners) {
+            listener.accept(id, value);
+        }
+    }
+
+    private void maybeCompact() {
+        long records = log.getRecordCount();
+        if (records < MIN_COMPACTION_RECORDS || records < (long) documents.size() * COMPACTION_RATIO) return;
+        try {
+            log.compact(documents, watermark);
+        } catch (IOException e) {
+            System.err.println("Failed to compact replica " + name + ": " + e.getMessage());
+        }
+    }
+}
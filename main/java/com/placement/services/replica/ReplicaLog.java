@@ -0,0 +1,275 @@
+package com.placement.services.replica;
+
+import com.google.cloud.Timestamp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// Append-only file of document puts, deletes and watermarks for one collection. Each record is
+// [length][payload][crc32]; a torn record at the tail (crash mid-write) is cut off on replay.
+class ReplicaLog implements AutoCloseable {
+    static final byte PUT = 'P';
+    static final byte DELETE = 'D';
+    static final byte WATERMARK = 'W';
+
+    private static final byte T_NULL = 0;
+    private static final byte T_STRING = 1;
+    private static final byte T_LONG = 2;
+    private static final byte T_DOUBLE = 3;
+    private static final byte T_BOOLEAN = 4;
+    private static final byte T_TIMESTAMP = 5;
+    private static final byte T_LIST = 6;
+    private static final byte T_MAP = 7;
+
+    interface Visitor {
+        void put(String id, Map<String, Object> data);
+        void delete(String id);
+        void watermark(Timestamp watermark);
+    }
+
+    private final Path file;
+    private FileChannel channel;
+    private long records;
+
+    ReplicaLog(Path file) {
+        this.file = file;
+    }
+
+    long getRecordCount() { return records; }
+
+    // Replays every intact record into the visitor and opens the file for appending
+    void open(Visitor visitor) throws IOException {
+        Files.createDirectories(file.getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validEnd = replay(visitor);
+        if (validEnd < channel.size()) {
+            System.err.println("Truncating torn replica log tail in " + file.getFileName());
+            channel.truncate(validEnd);
+        }
+        channel.position(validEnd);
+    }
+
+    void appendPut(String id, Map<String, Object> data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(PUT);
+        writeString(out, id);
+        writeMap(out, data);
+        append(bytes.toByteArray());
+    }
+
+    void appendDelete(String id) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(DELETE);
+        writeString(out, id);
+        append(bytes.toByteArray());
+    }
+
+    void appendWatermark(Timestamp watermark) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(WATERMARK);
+        out.writeLong(watermark.getSeconds());
+        out.writeInt(watermark.getNanos());
+        append(bytes.toByteArray());
+    }
+
+    // Rewrites the log with only the live documents and the watermark, then swaps it in atomically
+    void compact(Map<String, Map<String, Object>> documents, Timestamp watermark) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".compact");
+        try (ReplicaLog compacted = new ReplicaLog(temp)) {
+            compacted.channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            for (Map.Entry<String, Map<String, Object>> entry : documents.entrySet()) {
+                compacted.appendPut(entry.getKey(), entry.getValue());
+            }
+            if (watermark != null) compacted.appendWatermark(watermark);
+            compacted.channel.force(false);
+            records = compacted.records;
+        }
+        channel.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(4 + payload.length + 8);
+        record.putInt(payload.length).put(payload).putLong(crc.getValue()).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        records++;
+    }
+
+    private long replay(Visitor visitor) throws IOException {
+        long position = 0;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(4);
+        while (position + 4 <= size) {
+            header.clear();
+            channel.read(header, position);
+            int length = header.flip().getInt();
+            if (length < 0 || position + 4 + length + 8 > size) break;
+
+            ByteBuffer body = ByteBuffer.allocate(length + 8);
+            while (body.hasRemaining()) {
+                if (channel.read(body, position + 4 + body.position()) < 0) break;
+            }
+            body.flip();
+            byte[] payload = new byte[length];
+            body.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if (crc.getValue() != body.getLong()) break;
+
+            try {
+                apply(payload, visitor);
+            } catch (IOException e) {
+                break;
+            }
+            records++;
+            position += 4 + length + 8;
+        }
+        return position;
+    }
+
+    private static void apply(byte[] payload, Visitor visitor) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        switch (type) {
+            case PUT:
+                visitor.put(readString(in), readMap(in));
+                break;
+            case DELETE:
+                visitor.delete(readString(in));
+                break;
+            case WATERMARK:
+                visitor.watermark(Timestamp.ofTimeSecondsAndNanos(in.readLong(), in.readInt()));
+                break;
+            default:
+                throw new IOException("Unknown replica record type " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) throw new EOFException();
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        Map<String, Object> supported = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (isSupported(entry.getValue())) supported.put(entry.getKey(), entry.getValue());
+        }
+        out.writeInt(supported.size());
+        for (Map.Entry<String, Object> entry : supported.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readValue(in));
+        }
+        return map;
+    }
+
+    // Blobs, references and geo points are not mirrored; nothing the dashboards read uses them
+    private static boolean isSupported(Object value) {
+        return value == null || value instanceof String || value instanceof Long || value instanceof Integer
+            || value instanceof Double || value instanceof Boolean || value instanceof Timestamp
+            || value instanceof List || value instanceof Map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(T_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(T_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Long || value instanceof Integer) {
+            out.writeByte(T_LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            out.writeByte(T_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(T_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Timestamp) {
+            out.writeByte(T_TIMESTAMP);
+            out.writeLong(((Timestamp) value).getSeconds());
+            out.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof List) {
+            List<Object> supported = new ArrayList<>();
+            for (Object element : (List<Object>) value) {
+                if (isSupported(element)) supported.add(element);
+            }
+            out.writeByte(T_LIST);
+            out.writeInt(supported.size());
+            for (Object element : supported) writeValue(out, element);
+        } else {
+            out.writeByte(T_MAP);
+            writeMap(out, (Map<String, Object>) value);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case T_NULL: return null;
+            case T_STRING: return readString(in);
+            case T_LONG: return in.readLong();
+            case T_DOUBLE: return in.readDouble();
+            case T_BOOLEAN: return in.readBoolean();
+            case T_TIMESTAMP: return Timestamp.ofTimeSecondsAndNanos(in.readLong(), in.readInt());
+            case T_LIST:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(in));
+                return list;
+            case T_MAP: return readMap(in);
+            default: throw new IOException("Unknown replica value type " + tag);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.placement.services.replica;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.placement.services.AsyncService;
+import com.placement.services.FirebaseService;
+import com.placement.services.mapping.CandidateMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Pulls changes into LocalReplica in the background while someone is logged in, limited to what
+// their role needs: candidates mirror their own offers and the recruiters' company names, recruiters
+// mirror the candidates and their own offers. Mirrors left behind by another user or role are
+// dropped when the sync starts. The first run for a collection copies it in full; after that only
+// documents whose updatedAt is past the stored watermark are fetched. Every write in the app stamps
+// updatedAt with the server time so it is picked up here, and an hourly full copy catches documents
+// written without it. Collections with a field projection are pulled through select(), so CV
+// payloads and emails never leave the server.
+public class ReplicaSync {
+    private static final int PAGE_SIZE = 500;
+    private static final long INTERVAL_SECONDS = 30;
+    // Re-read a short window before the watermark so writes committed out of timestamp order and
+    // client clock skew on the first full copy are not missed; re-applying a document is harmless
+    private static final long OVERLAP_SECONDS = 120;
+    private static final long FULL_COPY_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    // One mirrored collection: the documents the logged-in user may see, and a key naming that
+    // subset so a mirror filled for someone else is recognized
+    private static class Scope {
+        final ReplicaCollection<?> replica;
+        final String key;
+        final Function<CollectionReference, Query> query;
+
+        Scope(ReplicaCollection<?> replica, String key, Function<CollectionReference, Query> query) {
+            this.replica = replica;
+            this.key = key;
+            this.query = query;
+        }
+    }
+
+    private static ScheduledFuture<?> scheduled;
+    private static volatile List<Scope> scopes = List.of();
+    private static boolean reconciled;
+    private static boolean running;
+    private static long lastFullCopyMillis;
+    // Candidates that still hold an inline CV; refreshed on the first run, since select() cannot report it
+    private static Set<String> legacyCvIds = new HashSet<>();
+
+    // Called on login. Drops mirrors that do not belong to this user and role before anything reads them.
+    public static synchronized void start(String userId, String role) {
+        shutdown();
+        List<Scope> started = new ArrayList<>();
+        if ("recruiter".equals(role)) {
+            started.add(new Scope(LocalReplica.candidates(), "all", collection -> collection));
+            started.add(new Scope(LocalReplica.offers(), "recruiterId=" + userId,
+                collection -> collection.whereEqualTo("recruiterId", userId)));
+        } else if ("candidate".equals(role)) {
+            started.add(new Scope(LocalReplica.offers(), "candidateId=" + userId,
+                collection -> collection.whereEqualTo("candidateId", userId)));
+            started.add(new Scope(LocalReplica.recruiters(), "all", collection -> collection));
+        }
+        for (ReplicaCollection<?> replica : List.of(LocalReplica.candidates(), LocalReplica.offers(), LocalReplica.recruiters())) {
+            String key = null;
+            for (Scope scope : started) {
+                if (scope.replica == replica) key = scope.key;
+            }
+            replica.useScope(key);
+        }
+        scopes = started;
+        reconciled = false;
+        lastFullCopyMillis = System.currentTimeMillis();
+        scheduled = AsyncService.schedule(ReplicaSync::runAndReschedule, 0, TimeUnit.SECONDS);
+    }
+
+    // Called on logout and exit; the mirrors stay on disk for the same user's next login
+    public static synchronized void shutdown() {
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        scopes = List.of();
+    }
+
+    public static void syncNow() {
+        List<Scope> current;
+        boolean fullCopy;
+        synchronized (ReplicaSync.class) {
+            if (running) return;
+            running = true;
+            current = scopes;
+            fullCopy = System.currentTimeMillis() - lastFullCopyMillis >= FULL_COPY_INTERVAL_MILLIS;
+        }
+        try {
+            boolean reconcile = !reconciled;
+            for (Scope scope : current) {
+                sync(scope, current, reconcile, fullCopy);
+            }
+            synchronized (ReplicaSync.class) {
+                if (scopes == current) {
+                    reconciled = true;
+                    if (fullCopy) lastFullCopyMillis = System.currentTimeMillis();
+                }
+            }
+        } catch (Exception e) {
+            // Offline or Firestore unavailable: the replica keeps serving what it has
+            System.err.println("Replica sync failed: " + e.getMessage());
+        } finally {
+            synchronized (ReplicaSync.class) {
+                running = false;
+            }
+        }
+    }
+
+    private static void runAndReschedule() {
+        syncNow();
+        synchronized (ReplicaSync.class) {
+            if (scheduled != null) {
+                scheduled = AsyncService.schedule(ReplicaSync::runAndReschedule, INTERVAL_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private static void sync(Scope scope, List<Scope> current, boolean reconcile, boolean refresh) throws Exception {
+        ReplicaCollection<?> replica = scope.replica;
+        CollectionReference collection = FirebaseService.getFirestore().collection(replica.getName());
+        Query scoped = scope.query.apply(collection);
+        Timestamp watermark = replica.getWatermark();
+        long started = System.nanoTime();
+        int pulled;
+
+        if (replica == LocalReplica.candidates() && (watermark == null || reconcile || refresh)) {
+            legacyCvIds = findLegacyCvIds(collection);
+        }
+        if (watermark == null || refresh) {
+            pulled = fullCopy(replica, scoped, current);
+        } else {
+            if (reconcile) removeDeleted(replica, scoped, current);
+            pulled = pullChanges(replica, scoped, watermark, current);
+        }
+        if (pulled > 0) {
+            System.out.println("Replica " + replica.getName() + ": pulled " + pulled + " documents in "
+                + (System.nanoTime() - started) / 1_000_000 + " ms");
+        }
+    }
+
+    private static int fullCopy(ReplicaCollection<?> replica, Query collection, List<Scope> current) throws Exception {
+        Timestamp copyStarted = Timestamp.now();
+        Set<String> liveIds = new HashSet<>();
+        Query base = project(replica, collection).orderBy(FieldPath.documentId()).limit(PAGE_SIZE);
+        QueryDocumentSnapshot last = null;
+        Timestamp newest = null;
+        while (true) {
+            List<QueryDocumentSnapshot> page = (last == null ? base : base.startAfter(last)).get().get().getDocuments();
+            synchronized (ReplicaSync.class) {
+                checkCurrent(current);
+                for (QueryDocumentSnapshot doc : page) {
+                    replica.upsert(doc.getId(), documentData(replica, doc));
+                    liveIds.add(doc.getId());
+                    newest = later(newest, doc.getTimestamp("updatedAt"));
+                }
+            }
+            if (page.size() < PAGE_SIZE) break;
+            last = page.get(page.size() - 1);
+        }
+        synchronized (ReplicaSync.class) {
+            checkCurrent(current);
+            replica.retainOnly(liveIds);
+            // Documents written before updatedAt stamping carry no timestamp, so fall back to the copy time
+            replica.advanceWatermark(later(newest, copyStarted));
+        }
+        return liveIds.size();
+    }
+
+    private static int pullChanges(ReplicaCollection<?> replica, Query collection, Timestamp watermark,
+                                   List<Scope> current) throws Exception {
+        Timestamp from = Timestamp.ofTimeSecondsAndNanos(watermark.getSeconds() - OVERLAP_SECONDS, watermark.getNanos());
+        Query base = project(replica, collection).whereGreaterThan("updatedAt", from).orderBy("updatedAt").limit(PAGE_SIZE);
+        QueryDocumentSnapshot last = null;
+        Timestamp newest = watermark;
+        int pulled = 0;
+        while (true) {
+            List<QueryDocumentSnapshot> page = (last == null ? base : base.startAfter(last)).get().get().getDocuments();
+            synchronized (ReplicaSync.class) {
+                checkCurrent(current);
+                for (QueryDocumentSnapshot doc : page) {
+                    replica.upsert(doc.getId(), documentData(replica, doc));
+                    newest = later(newest, doc.getTimestamp("updatedAt"));
+                    pulled++;
+                }
+            }
+            if (page.size() < PAGE_SIZE) break;
+            last = page.get(page.size() - 1);
+        }
+        synchronized (ReplicaSync.class) {
+            checkCurrent(current);
+            replica.advanceWatermark(newest);
+        }
+        return pulled;
+    }
+
+    // Deletes leave no updatedAt behind, so once per run compare ids (no field data) with the server
+    private static void removeDeleted(ReplicaCollection<?> replica, Query collection, List<Scope> current) throws Exception {
+        QuerySnapshot snapshot = collection.select(new String[0]).get().get();
+        Set<String> liveIds = new HashSet<>();
+        for (QueryDocumentSnapshot doc : snapshot.getDocuments()) {
+            liveIds.add(doc.getId());
+        }
+        synchronized (ReplicaSync.class) {
+            checkCurrent(current);
+            replica.retainOnly(liveIds);
+        }
+    }
+
+    // A logout or another login replaced the scopes while a page was downloading; drop the page.
+    // Callers hold the class lock, so start() cannot clear a mirror between this check and the write.
+    private static void checkCurrent(List<Scope> current) {
+        if (scopes != current) throw new IllegalStateException("the logged-in user changed");
+    }
+
+    private static Query project(ReplicaCollection<?> replica, Query collection) {
+        return replica.getFields() != null ? collection.select(replica.getFields()) : collection;
+    }
+
+    private static Map<String, Object> documentData(ReplicaCollection<?> replica, QueryDocumentSnapshot doc) {
+        Map<String, Object> data = doc.getData();
+        if (replica == LocalReplica.candidates() && legacyCvIds.contains(doc.getId()) && data.get("cvHash") == null) {
+            data = new HashMap<>(data);
+            data.put(CandidateMapper.LEGACY_CV, true);
+        }
+        return data;
+    }
+
+    // Only ids are selected, so the Base64 payloads are not downloaded
+    private static Set<String> findLegacyCvIds(CollectionReference collection) throws Exception {
+        Set<String> ids = new HashSet<>();
+        for (String field : new String[] {CandidateMapper.CV_URL, CandidateMapper.LEGACY_CV_URL}) {
+            for (QueryDocumentSnapshot doc : collection.whereNotEqualTo(field, null).select(new String[0]).get().get().getDocuments()) {
+                ids.add(doc.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static Timestamp later(Timestamp a, Timestamp b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
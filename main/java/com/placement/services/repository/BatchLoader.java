@@ -0,0 +1,103 @@
+package com.placement.services.repository;
+
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.Firestore;
+import com.placement.services.AsyncService;
+import com.placement.services.FirebaseService;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Collects point reads on one collection for a few milliseconds and sends them as a single
+// getAll(). A read for an id that is already pending or in flight joins that request.
+class BatchLoader {
+    private static final long WINDOW_MILLIS = 5;
+    private static final int MAX_BATCH = 300;
+
+    private final String collection;
+    private final FieldMask mask; // null reads whole documents
+    private final String metric;
+
+    private final Map<String, CompletableFuture<DocumentSnapshot>> inFlight = new HashMap<>();
+    private Map<String, CompletableFuture<DocumentSnapshot>> batch = new LinkedHashMap<>();
+
+    BatchLoader(String collection, FieldMask mask, String metric) {
+        this.collection = collection;
+        this.mask = mask;
+        this.metric = metric;
+    }
+
+    CompletableFuture<DocumentSnapshot> load(String id) {
+        Map<String, CompletableFuture<DocumentSnapshot>> full = null;
+        CompletableFuture<DocumentSnapshot> future;
+        synchronized (this) {
+            CompletableFuture<DocumentSnapshot> existing = inFlight.get(id);
+            if (existing != null) {
+                RepositoryMetrics.coalesced(metric);
+                return existing;
+            }
+            future = new CompletableFuture<>();
+            inFlight.put(id, future);
+            batch.put(id, future);
+            if (batch.size() == 1) {
+                AsyncService.schedule(this::flush, WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+            } else if (batch.size() >= MAX_BATCH) {
+                full = takeBatch();
+            }
+        }
+        if (full != null) dispatch(full);
+        return future;
+    }
+
+    private void flush() {
+        Map<String, CompletableFuture<DocumentSnapshot>> pending;
+        synchronized (this) {
+            if (batch.isEmpty()) return;
+            pending = takeBatch();
+        }
+        dispatch(pending);
+    }
+
+    private Map<String, CompletableFuture<DocumentSnapshot>> takeBatch() {
+        Map<String, CompletableFuture<DocumentSnapshot>> taken = batch;
+        batch = new LinkedHashMap<>();
+        return taken;
+    }
+
+    private void dispatch(Map<String, CompletableFuture<DocumentSnapshot>> pending) {
+        Firestore db = FirebaseService.getFirestore();
+        DocumentReference[] refs = pending.keySet().stream()
+            .map(id -> db.collection(collection).document(id))
+            .toArray(DocumentReference[]::new);
+
+        CompletableFuture<List<DocumentSnapshot>> result = RepositoryMetrics.time(metric + ".getAll",
+            Futures.toCompletable(mask != null ? db.getAll(refs, mask) : db.getAll(refs)));
+
+        result.whenComplete((snapshots, error) -> {
+            synchronized (this) {
+                pending.forEach(inFlight::remove);
+            }
+            if (error != null) {
+                pending.values().forEach(future -> future.completeExceptionally(error));
+                return;
+            }
+            Set<String> unanswered = new HashSet<>(pending.keySet());
+            for (DocumentSnapshot snapshot : snapshots) {
+                CompletableFuture<DocumentSnapshot> future = pending.get(snapshot.getId());
+                if (future != null) future.complete(snapshot);
+                unanswered.remove(snapshot.getId());
+            }
+            for (String id : unanswered) {
+                pending.get(id).completeExceptionally(new IllegalStateException("No snapshot returned for " + collection + "/" + id));
+            }
+        });
+    }
+}
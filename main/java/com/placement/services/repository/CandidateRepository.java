@@ -0,0 +1,137 @@
+package com.placement.services.repository;
+
+import com.google.cloud.firestore.AggregateQuerySnapshot;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.EventListener;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.WriteResult;
+import com.placement.models.Candidate;
+import com.placement.services.CandidateQuery;
+import com.placement.services.FirebaseService;
+import com.placement.services.cv.CvBlob;
+import com.placement.services.mapping.CandidateMapper;
+import com.placement.services.replica.LocalReplica;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class CandidateRepository {
+    static final String COLLECTION = "candidates";
+
+    private static final BatchLoader documents = new BatchLoader(COLLECTION, null, "CandidateRepository.findById");
+    // Everything but the legacy inline CV, which can be megabytes
+    private static final BatchLoader details = new BatchLoader(COLLECTION,
+        FieldMask.of("name", "email", "marks", "qualification", "cvHash", "cvSize", "cvMimeType", "updatedAt"),
+        "CandidateRepository.findDetails");
+    private static final BatchLoader names = new BatchLoader(COLLECTION, FieldMask.of("name"), "CandidateRepository.findNames");
+    private static final InFlightRequests<List<Object>, List<Candidate>> pages = new InFlightRequests<>("CandidateRepository.findPage");
+    private static final InFlightRequests<CandidateQuery, Long> counts = new InFlightRequests<>("CandidateRepository.count");
+
+    // Completes with null when the candidate does not exist
+    public static CompletableFuture<Candidate> findById(String candidateId) {
+        return RepositoryMetrics.time("CandidateRepository.findById",
+            documents.load(candidateId).thenApply(CandidateRepository::toCandidate));
+    }
+
+    // The candidate without the legacy CV payload; completes with null when it does not exist
+    public static CompletableFuture<Candidate> findDetails(String candidateId) {
+        return RepositoryMetrics.time("CandidateRepository.findDetails",
+            details.load(candidateId).thenApply(CandidateMapper::fromSnapshotWithoutCv));
+    }
+
+    // Names by id; ids without a candidate document map to null
+    public static CompletableFuture<Map<String, String>> findNames(Collection<String> candidateIds) {
+        Set<String> ids = new LinkedHashSet<>(candidateIds);
+        List<CompletableFuture<DocumentSnapshot>> loads = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            loads.add(names.load(id));
+        }
+        CompletableFuture<Map<String, String>> result = CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> {
+                Map<String, String> resolved = new HashMap<>();
+                for (CompletableFuture<DocumentSnapshot> load : loads) {
+                    DocumentSnapshot snapshot = load.join();
+                    resolved.put(snapshot.getId(), snapshot.exists() ? snapshot.getString("name") : null);
+                }
+                return resolved;
+            });
+        return RepositoryMetrics.time("CandidateRepository.findNames", result);
+    }
+
+    // One page of candidates matching query in its sort order, starting after cursor (null for the first page).
+    // When fields is non-null only those fields are downloaded, and the order field must be among them.
+    public static CompletableFuture<List<Candidate>> findPage(CandidateQuery query, Object[] cursor, int limit, Collection<String> fields) {
+        List<Object> key = Arrays.asList(query, cursor != null ? Arrays.asList(cursor) : null, limit, fields);
+        return pages.get(key, () -> {
+            Query page = query.apply(collection())
+                .orderBy(query.getOrderField(), query.getDirection())
+                .orderBy(FieldPath.documentId(), query.getDirection())
+                .limit(limit);
+            if (fields != null) page = page.select(fields.toArray(new String[0]));
+            if (cursor != null) page = page.startAfter(cursor);
+            return Futures.toCompletable(page.get()).thenApply(snapshot -> toCandidates(snapshot, fields == null));
+        });
+    }
+
+    public static CompletableFuture<Long> count(CandidateQuery query) {
+        return counts.get(query, () -> Futures.toCompletable(query.apply(collection()).count().get())
+            .thenApply(AggregateQuerySnapshot::getCount));
+    }
+
+    // Merges the candidate's fields into the document; the server stamps updatedAt for replica sync
+    public static CompletableFuture<WriteResult> save(Candidate candidate) {
+        return RepositoryMetrics.time("CandidateRepository.save",
+            Futures.toCompletable(collection().document(candidate.getId()).set(CandidateMapper.toData(candidate), SetOptions.merge())));
+    }
+
+    // Points the candidate at a stored CV and drops the legacy inline copy
+    public static CompletableFuture<WriteResult> updateCv(String candidateId, CvBlob blob) {
+        return RepositoryMetrics.time("CandidateRepository.updateCv",
+            Futures.toCompletable(collection().document(candidateId)
+                .update("cvHash", blob.getHash(),
+                    "cvSize", blob.getSize(),
+                    "cvMimeType", blob.getMimeType(),
+                    CandidateMapper.CV_URL, FieldValue.delete(),
+                    CandidateMapper.LEGACY_CV_URL, FieldValue.delete(),
+                    "updatedAt", FieldValue.serverTimestamp())));
+    }
+
+    public static ListenerRegistration listen(String candidateId, EventListener<DocumentSnapshot> listener) {
+        return collection().document(candidateId).addSnapshotListener(listener);
+    }
+
+    // Null when the document does not exist
+    public static Candidate toCandidate(DocumentSnapshot snapshot) {
+        return CandidateMapper.fromSnapshot(snapshot);
+    }
+
+    // List rows never need the legacy CV payload; viewing a CV re-reads the document
+    // Projected documents may lack fields the replica keeps, so only whole documents are mirrored
+    private static List<Candidate> toCandidates(QuerySnapshot snapshot, boolean wholeDocuments) {
+        List<Candidate> candidates = new ArrayList<>(snapshot.size());
+        for (QueryDocumentSnapshot doc : snapshot.getDocuments()) {
+            if (wholeDocuments) LocalReplica.candidates().upsert(doc.getId(), doc.getData());
+            candidates.add(CandidateMapper.fromSnapshotWithoutCv(doc));
+        }
+        return candidates;
+    }
+
+    private static CollectionReference collection() {
+        return FirebaseService.getFirestore().collection(COLLECTION);
+    }
+}
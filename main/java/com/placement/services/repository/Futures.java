@@ -0,0 +1,25 @@
+package com.placement.services.repository;
+
+import com.google.api.core.ApiFuture;
+import com.placement.services.AsyncService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+class Futures {
+
+    // Completes on an AsyncService thread, never on the gRPC callback thread
+    static <T> CompletableFuture<T> toCompletable(ApiFuture<T> future) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.addListener(() -> {
+            try {
+                result.complete(future.get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }, AsyncService.executor());
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.placement.services.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// Shares one future between identical requests while the first is still running. Nothing is kept
+// once it completes; caching is left to the callers.
+class InFlightRequests<K, V> {
+    private final String metric;
+    private final Map<K, CompletableFuture<V>> inFlight = new HashMap<>();
+
+    InFlightRequests(String metric) {
+        this.metric = metric;
+    }
+
+    CompletableFuture<V> get(K key, Supplier<CompletableFuture<V>> request) {
+        CompletableFuture<V> future;
+        synchronized (this) {
+            CompletableFuture<V> existing = inFlight.get(key);
+            if (existing != null) {
+                RepositoryMetrics.coalesced(metric);
+                return existing;
+            }
+            future = new CompletableFuture<>();
+            inFlight.put(key, future);
+        }
+
+        RepositoryMetrics.time(metric, request.get()).whenComplete((value, error) -> {
+            synchronized (this) {
+                inFlight.remove(key, future);
+            }
+            if (error != null) {
+                future.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                future.complete(value);
+            }
+        });
+        return future;
+    }
+}
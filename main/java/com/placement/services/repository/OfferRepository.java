@@ -0,0 +1,159 @@
+package com.placement.services.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.cloud.firestore.WriteResult;
+import com.placement.models.Offer;
+import com.placement.services.FirebaseService;
+import com.placement.services.mapping.OfferMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class OfferRepository {
+    static final String COLLECTION = "offers";
+    public static final int MAX_BATCH_WRITES = 500; // Firestore's limit per WriteBatch
+    private static final int MAX_IN_VALUES = 30; // Firestore's limit for whereIn
+
+    // Outcome of createAll: the offers whose batch committed, with their new document ids in the same
+    // order, and the offers of every batch that did not commit, with the first error seen
+    public static class CreateResult {
+        private final List<Offer> created;
+        private final List<String> createdIds;
+        private final List<Offer> failed;
+        private final Throwable error;
+
+        CreateResult(List<Offer> created, List<String> createdIds, List<Offer> failed, Throwable error) {
+            this.created = created;
+            this.createdIds = createdIds;
+            this.failed = failed;
+            this.error = error;
+        }
+
+        public List<Offer> getCreated() { return created; }
+        public List<String> getCreatedIds() { return createdIds; }
+        public List<Offer> getFailed() { return failed; }
+        public Throwable getError() { return error; }
+    }
+
+    private static final BatchLoader documents = new BatchLoader(COLLECTION, null, "OfferRepository.findById");
+
+    // Queries for OfferFeed listeners
+    public static Query forCandidate(String candidateId) {
+        return collection().whereEqualTo("candidateId", candidateId);
+    }
+
+    public static Query forRecruiter(String recruiterId) {
+        return collection().whereEqualTo("recruiterId", recruiterId);
+    }
+
+    // Completes with null when the offer does not exist
+    public static CompletableFuture<Offer> findById(String offerId) {
+        return RepositoryMetrics.time("OfferRepository.findById",
+            documents.load(offerId).thenApply(OfferRepository::toOffer));
+    }
+
+    // Completes with the new offer's id; updatedAt is left null so the server stamps it
+    public static CompletableFuture<String> create(Offer offer) {
+        return RepositoryMetrics.time("OfferRepository.create",
+            Futures.toCompletable(collection().add(OfferMapper.toData(offer))).thenApply(DocumentReference::getId));
+    }
+
+    // Creates the offers through WriteBatches of at most MAX_BATCH_WRITES, committed concurrently.
+    // Each batch is atomic, but batches succeed or fail independently; completes once every batch
+    // has finished, with the offers of each side. The offers are not modified.
+    public static CompletableFuture<CreateResult> createAll(List<Offer> offers) {
+        Firestore db = FirebaseService.getFirestore();
+        List<List<Offer>> batches = new ArrayList<>();
+        List<List<String>> batchIds = new ArrayList<>();
+        List<CompletableFuture<List<WriteResult>>> commits = new ArrayList<>();
+        for (int start = 0; start < offers.size(); start += MAX_BATCH_WRITES) {
+            WriteBatch batch = db.batch();
+            List<Offer> chunk = offers.subList(start, Math.min(offers.size(), start + MAX_BATCH_WRITES));
+            List<String> ids = new ArrayList<>(chunk.size());
+            for (Offer offer : chunk) {
+                DocumentReference document = collection().document();
+                batch.create(document, OfferMapper.toData(offer));
+                ids.add(document.getId());
+            }
+            batches.add(chunk);
+            batchIds.add(ids);
+            commits.add(Futures.toCompletable(batch.commit()));
+        }
+        CompletableFuture<CreateResult> result = CompletableFuture.allOf(commits.stream()
+                .map(commit -> commit.handle((results, error) -> null))
+                .toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> {
+                List<Offer> created = new ArrayList<>(offers.size());
+                List<String> createdIds = new ArrayList<>(offers.size());
+                List<Offer> failed = new ArrayList<>();
+                Throwable error = null;
+                for (int i = 0; i < commits.size(); i++) {
+                    CompletableFuture<List<WriteResult>> commit = commits.get(i);
+                    if (!commit.isCompletedExceptionally()) {
+                        created.addAll(batches.get(i));
+                        createdIds.addAll(batchIds.get(i));
+                        continue;
+                    }
+                    failed.addAll(batches.get(i));
+                    if (error == null) error = commit.handle((results, e) -> e).join();
+                }
+                return new CreateResult(created, createdIds, failed, error);
+            });
+        return RepositoryMetrics.time("OfferRepository.createAll", result);
+    }
+
+    // The candidates among candidateIds that already hold a pending or accepted offer from this recruiter
+    public static CompletableFuture<Set<String>> findOfferedCandidates(String recruiterId, Collection<String> candidateIds) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(candidateIds));
+        List<CompletableFuture<QuerySnapshot>> queries = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += MAX_IN_VALUES) {
+            Query query = forRecruiter(recruiterId)
+                .whereIn("candidateId", new ArrayList<>(ids.subList(start, Math.min(ids.size(), start + MAX_IN_VALUES))))
+                .select("candidateId", "status");
+            queries.add(Futures.toCompletable(query.get()));
+        }
+        CompletableFuture<Set<String>> result = CompletableFuture.allOf(queries.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> {
+                Set<String> offered = new HashSet<>();
+                for (CompletableFuture<QuerySnapshot> query : queries) {
+                    for (QueryDocumentSnapshot doc : query.join().getDocuments()) {
+                        // A rejected offer does not stop the candidate from being offered again
+                        if (!"REJECTED".equals(doc.getString("status"))) offered.add(doc.getString("candidateId"));
+                    }
+                }
+                return offered;
+            });
+        return RepositoryMetrics.time("OfferRepository.findOfferedCandidates", result);
+    }
+
+    public static CompletableFuture<WriteResult> updateStatus(String offerId, String status, Timestamp timestamp) {
+        return RepositoryMetrics.time("OfferRepository.updateStatus",
+            Futures.toCompletable(collection().document(offerId)
+                .update("status", status,
+                    "timestamp", timestamp,
+                    "updatedAt", FieldValue.serverTimestamp())));
+    }
+
+    // Null when the document does not exist
+    public static Offer toOffer(DocumentSnapshot snapshot) {
+        return OfferMapper.fromSnapshot(snapshot);
+    }
+
+    private static CollectionReference collection() {
+        return FirebaseService.getFirestore().collection(COLLECTION);
+    }
+}
@@ -0,0 +1,70 @@
+package com.placement.services.repository;
+
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.EventListener;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.placement.models.Recruiter;
+import com.placement.services.FirebaseService;
+import com.placement.services.mapping.RecruiterMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class RecruiterRepository {
+    static final String COLLECTION = "recruiters";
+
+    private static final BatchLoader documents = new BatchLoader(COLLECTION,
+        FieldMask.of("companyName", "email", "industry"), "RecruiterRepository.findById");
+
+    // A recruiter without a document comes back with only its id set
+    public static CompletableFuture<Recruiter> findById(String recruiterId) {
+        return RepositoryMetrics.time("RecruiterRepository.findById",
+            documents.load(recruiterId).thenApply(RecruiterRepository::toRecruiter));
+    }
+
+    public static CompletableFuture<Map<String, Recruiter>> findAll(Collection<String> recruiterIds) {
+        List<CompletableFuture<Recruiter>> loads = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(recruiterIds)) {
+            loads.add(documents.load(id).thenApply(RecruiterRepository::toRecruiter));
+        }
+        CompletableFuture<Map<String, Recruiter>> result = CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> {
+                Map<String, Recruiter> recruiters = new HashMap<>();
+                for (CompletableFuture<Recruiter> load : loads) {
+                    Recruiter recruiter = load.join();
+                    recruiters.put(recruiter.getId(), recruiter);
+                }
+                return recruiters;
+            });
+        return RepositoryMetrics.time("RecruiterRepository.findAll", result);
+    }
+
+    public static ListenerRegistration listen(String recruiterId, EventListener<DocumentSnapshot> listener) {
+        return collection().document(recruiterId).addSnapshotListener(listener);
+    }
+
+    public static ListenerRegistration listenAll(EventListener<QuerySnapshot> listener) {
+        return collection().addSnapshotListener(listener);
+    }
+
+    public static Recruiter toRecruiter(DocumentSnapshot snapshot) {
+        Recruiter recruiter = RecruiterMapper.fromSnapshot(snapshot);
+        if (recruiter == null) {
+            recruiter = new Recruiter();
+            recruiter.setId(snapshot.getId());
+        }
+        return recruiter;
+    }
+
+    private static CollectionReference collection() {
+        return FirebaseService.getFirestore().collection(COLLECTION);
+    }
+}
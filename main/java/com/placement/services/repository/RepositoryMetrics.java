@@ -0,0 +1,74 @@
+package com.placement.services.repository;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-method call counts and latencies for the repositories. Coalesced calls are counted
+// separately because they share the latency of the request they joined.
+public class RepositoryMetrics {
+    private static final Map<String, Stat> stats = new ConcurrentHashMap<>();
+
+    private static class Stat {
+        final LongAdder calls = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+    }
+
+    static <T> CompletableFuture<T> time(String method, CompletableFuture<T> future) {
+        long started = System.nanoTime();
+        Stat stat = stat(method);
+        return future.whenComplete((value, error) -> {
+            long elapsed = System.nanoTime() - started;
+            stat.calls.increment();
+            stat.totalNanos.add(elapsed);
+            stat.maxNanos.accumulateAndGet(elapsed, Math::max);
+            if (error != null) stat.errors.increment();
+        });
+    }
+
+    static void coalesced(String method) {
+        stat(method).coalesced.increment();
+    }
+
+    public static long getCalls(String method) {
+        Stat stat = stats.get(method);
+        return stat != null ? stat.calls.sum() : 0;
+    }
+
+    public static double getMeanMillis(String method) {
+        Stat stat = stats.get(method);
+        if (stat == null || stat.calls.sum() == 0) return 0;
+        return stat.totalNanos.sum() / 1e6 / stat.calls.sum();
+    }
+
+    public static double getMaxMillis(String method) {
+        Stat stat = stats.get(method);
+        return stat != null ? stat.maxNanos.get() / 1e6 : 0;
+    }
+
+    // One line per method: calls, coalesced, errors, mean and max latency
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, Stat> entry : new TreeMap<>(stats).entrySet()) {
+            Stat stat = entry.getValue();
+            report.append(String.format("%-40s calls=%d coalesced=%d errors=%d mean=%.1fms max=%.1fms%n",
+                entry.getKey(), stat.calls.sum(), stat.coalesced.sum(), stat.errors.sum(),
+                getMeanMillis(entry.getKey()), getMaxMillis(entry.getKey())));
+        }
+        return report.toString();
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    private static Stat stat(String method) {
+        return stats.computeIfAbsent(method, key -> new Stat());
+    }
+}
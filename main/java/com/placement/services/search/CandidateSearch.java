@@ -0,0 +1,98 @@
+package com.placement.services.search;
+
+import com.placement.models.CandidateSummary;
+import com.placement.services.CandidateQuery;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// Immutable query for CandidateSearchIndex: every word of namePrefix must start some token of the
+// candidate's name, the qualification must be one of qualifications (empty means any), and marks
+// must fall in [minMarks, maxMarks]. Results are the top `limit` matches by marks.
+public class CandidateSearch {
+    public static final int DEFAULT_LIMIT = 500;
+
+    private final List<String> nameWords;
+    private final Set<String> qualifications;
+    private final double minMarks;
+    private final double maxMarks;
+    private final int limit;
+
+    private CandidateSearch(List<String> nameWords, Set<String> qualifications, double minMarks, double maxMarks, int limit) {
+        this.nameWords = nameWords;
+        this.qualifications = qualifications;
+        this.minMarks = minMarks;
+        this.maxMarks = maxMarks;
+        this.limit = limit;
+    }
+
+    public static CandidateSearch all() {
+        return new CandidateSearch(List.of(), Set.of(), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, DEFAULT_LIMIT);
+    }
+
+    // The dashboard filter plus an optional name prefix
+    public static CandidateSearch of(CandidateQuery query, String namePrefix) {
+        CandidateSearch search = all().withNamePrefix(namePrefix);
+        if (query.getQualification() != null) search = search.withQualifications(List.of(query.getQualification()));
+        if (query.getMinMarks() > 0) search = search.withMarksBetween(query.getMinMarks(), Double.POSITIVE_INFINITY);
+        return search;
+    }
+
+    public CandidateSearch withNamePrefix(String namePrefix) {
+        return new CandidateSearch(namePrefix != null ? CandidateSearchIndex.tokenize(namePrefix) : List.of(),
+            qualifications, minMarks, maxMarks, limit);
+    }
+
+    public CandidateSearch withQualifications(Collection<String> qualifications) {
+        return new CandidateSearch(nameWords, Collections.unmodifiableSet(new LinkedHashSet<>(qualifications)),
+            minMarks, maxMarks, limit);
+    }
+
+    public CandidateSearch withMarksBetween(double minMarks, double maxMarks) {
+        return new CandidateSearch(nameWords, qualifications, minMarks, maxMarks, limit);
+    }
+
+    public CandidateSearch withLimit(int limit) {
+        return new CandidateSearch(nameWords, qualifications, minMarks, maxMarks, limit);
+    }
+
+    public List<String> getNameWords() { return nameWords; }
+    public Set<String> getQualifications() { return qualifications; }
+    public double getMinMarks() { return minMarks; }
+    public double getMaxMarks() { return maxMarks; }
+    public int getLimit() { return limit; }
+
+    public boolean hasNamePrefix() {
+        return !nameWords.isEmpty();
+    }
+
+    // Same semantics as the index, for filtering candidates that are already loaded
+    public boolean matches(CandidateSummary candidate) {
+        if (candidate.getMarks() < minMarks || candidate.getMarks() > maxMarks) return false;
+        if (!qualifications.isEmpty() && !qualifications.contains(candidate.getQualification())) return false;
+        if (nameWords.isEmpty()) return true;
+        List<String> tokens = CandidateSearchIndex.tokenize(candidate.getName());
+        for (String word : nameWords) {
+            if (tokens.stream().noneMatch(token -> token.startsWith(word))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CandidateSearch)) return false;
+        CandidateSearch other = (CandidateSearch) o;
+        return minMarks == other.minMarks && maxMarks == other.maxMarks && limit == other.limit
+            && nameWords.equals(other.nameWords) && qualifications.equals(other.qualifications);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameWords, qualifications, minMarks, maxMarks, limit);
+    }
+}
@@ -0,0 +1,316 @@
+package com.placement.services.search;
+
+import com.placement.models.Candidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory candidate index. Each candidate gets an int ordinal; name tokens and qualifications map
+// to BitSet postings over those ordinals, and ordinals are also kept in an array sorted by marks
+// (descending, then id) so a marks range is a binary search and top-K by marks is a prefix scan.
+// Reads take a shared lock; upserts and removals are applied incrementally under the write lock.
+public class CandidateSearchIndex {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    public static class Result {
+        private final List<String> ids;
+        private final int totalMatches;
+
+        Result(List<String> ids, int totalMatches) {
+            this.ids = ids;
+            this.totalMatches = totalMatches;
+        }
+
+        // At most the search limit, best marks first
+        public List<String> getIds() { return ids; }
+
+        public int getTotalMatches() { return totalMatches; }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private double[] marks = new double[INITIAL_CAPACITY];
+    private String[][] nameTokens = new String[INITIAL_CAPACITY][];
+    private String[] qualifications = new String[INITIAL_CAPACITY];
+    private int highWater;
+    private final List<Integer> freeOrdinals = new ArrayList<>();
+
+    private final TreeMap<String, BitSet> namePostings = new TreeMap<>();
+    private final Map<String, BitSet> qualificationPostings = new HashMap<>();
+
+    // Live ordinals ordered by marks descending, then id ascending
+    private int[] byMarks = new int[INITIAL_CAPACITY];
+    private int count;
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Replaces the whole index; sorts once instead of inserting one by one
+    public void rebuild(Collection<Candidate> candidates) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            freeOrdinals.clear();
+            namePostings.clear();
+            qualificationPostings.clear();
+            highWater = 0;
+            count = 0;
+            ensureCapacity(candidates.size());
+            for (Candidate candidate : candidates) {
+                if (candidate.getId() == null || ordinals.containsKey(candidate.getId())) continue;
+                int ordinal = highWater++;
+                store(ordinal, candidate);
+                byMarks[count++] = ordinal;
+            }
+            Integer[] sorted = new Integer[count];
+            for (int i = 0; i < count; i++) sorted[i] = byMarks[i];
+            Arrays.sort(sorted, this::compareOrdinals);
+            for (int i = 0; i < count; i++) byMarks[i] = sorted[i];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Candidate candidate) {
+        if (candidate.getId() == null) return;
+        lock.writeLock().lock();
+        try {
+            removeLocked(candidate.getId());
+            int ordinal;
+            if (!freeOrdinals.isEmpty()) {
+                ordinal = freeOrdinals.remove(freeOrdinals.size() - 1);
+            } else {
+                ensureCapacity(highWater + 1);
+                ordinal = highWater++;
+            }
+            store(ordinal, candidate);
+            int position = -(findPosition(ordinal) + 1);
+            System.arraycopy(byMarks, position, byMarks, position + 1, count - position);
+            byMarks[position] = ordinal;
+            count++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String candidateId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(candidateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result search(CandidateSearch search) {
+        lock.readLock().lock();
+        try {
+            BitSet filter = postingsFilter(search);
+            if (filter != null && filter.isEmpty()) return new Result(List.of(), 0);
+
+            // Marks range as [from, to) in byMarks, which is sorted descending
+            int from = firstAtMost(search.getMaxMarks());
+            int to = firstBelow(search.getMinMarks());
+            int limit = search.getLimit();
+
+            if (filter == null) {
+                List<String> top = new ArrayList<>(Math.min(limit, Math.max(0, to - from)));
+                for (int i = from; i < to && top.size() < limit; i++) top.add(ids[byMarks[i]]);
+                return new Result(top, Math.max(0, to - from));
+            }
+
+            // A selective filter is cheaper to walk bit by bit than to scan the whole marks range
+            if (filter.cardinality() * 4L < to - from) {
+                return topFromPostings(filter, search, limit);
+            }
+            List<String> top = new ArrayList<>(Math.min(limit, filter.cardinality()));
+            int total = 0;
+            for (int i = from; i < to; i++) {
+                int ordinal = byMarks[i];
+                if (!filter.get(ordinal)) continue;
+                if (top.size() < limit) top.add(ids[ordinal]);
+                total++;
+            }
+            return new Result(top, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lower-cased runs of letters and digits
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private BitSet postingsFilter(CandidateSearch search) {
+        BitSet filter = null;
+        for (String word : search.getNameWords()) {
+            BitSet matches = new BitSet(highWater);
+            for (BitSet postings : namePostings.subMap(word, true, word + Character.MAX_VALUE, false).values()) {
+                matches.or(postings);
+            }
+            filter = intersect(filter, matches);
+        }
+        if (!search.getQualifications().isEmpty()) {
+            BitSet matches = new BitSet(highWater);
+            for (String qualification : search.getQualifications()) {
+                BitSet postings = qualificationPostings.get(qualification);
+                if (postings != null) matches.or(postings);
+            }
+            filter = intersect(filter, matches);
+        }
+        return filter;
+    }
+
+    private static BitSet intersect(BitSet filter, BitSet matches) {
+        if (filter == null) return matches;
+        filter.and(matches);
+        return filter;
+    }
+
+    private Result topFromPostings(BitSet filter, CandidateSearch search, int limit) {
+        // Min-heap of the best `limit` ordinals seen so far; its head is the worst of them
+        PriorityQueue<Integer> best = new PriorityQueue<>((a, b) -> compareOrdinals(b, a));
+        int total = 0;
+        for (int ordinal = filter.nextSetBit(0); ordinal >= 0; ordinal = filter.nextSetBit(ordinal + 1)) {
+            double value = marks[ordinal];
+            if (value < search.getMinMarks() || value > search.getMaxMarks()) continue;
+            total++;
+            if (best.size() < limit) {
+                best.add(ordinal);
+            } else if (limit > 0 && compareOrdinals(ordinal, best.peek()) < 0) {
+                best.poll();
+                best.add(ordinal);
+            }
+        }
+        String[] top = new String[best.size()];
+        for (int i = top.length - 1; i >= 0; i--) top[i] = ids[best.poll()];
+        return new Result(Arrays.asList(top), total);
+    }
+
+    private void store(int ordinal, Candidate candidate) {
+        ordinals.put(candidate.getId(), ordinal);
+        ids[ordinal] = candidate.getId();
+        marks[ordinal] = candidate.getMarks();
+        qualifications[ordinal] = candidate.getQualification();
+        List<String> tokens = tokenize(candidate.getName());
+        nameTokens[ordinal] = tokens.toArray(new String[0]);
+        for (String token : tokens) {
+            namePostings.computeIfAbsent(token, key -> new BitSet()).set(ordinal);
+        }
+        if (candidate.getQualification() != null) {
+            qualificationPostings.computeIfAbsent(candidate.getQualification(), key -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void removeLocked(String candidateId) {
+        Integer ordinal = ordinals.remove(candidateId);
+        if (ordinal == null) return;
+
+        int position = findPosition(ordinal);
+        System.arraycopy(byMarks, position + 1, byMarks, position, count - position - 1);
+        count--;
+
+        for (String token : nameTokens[ordinal]) {
+            BitSet postings = namePostings.get(token);
+            postings.clear(ordinal);
+            if (postings.isEmpty()) namePostings.remove(token);
+        }
+        String qualification = qualifications[ordinal];
+        if (qualification != null) {
+            BitSet postings = qualificationPostings.get(qualification);
+            postings.clear(ordinal);
+            if (postings.isEmpty()) qualificationPostings.remove(qualification);
+        }
+        ids[ordinal] = null;
+        nameTokens[ordinal] = null;
+        qualifications[ordinal] = null;
+        freeOrdinals.add(ordinal);
+    }
+
+    // Binary search of byMarks for ordinal; returns -(insertion point) - 1 when it is not present
+    private int findPosition(int ordinal) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareOrdinals(byMarks[mid], ordinal);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // First position whose marks are <= max
+    private int firstAtMost(double max) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (marks[byMarks[mid]] > max) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    // First position whose marks are < min
+    private int firstBelow(double min) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (marks[byMarks[mid]] >= min) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    // Index order: higher marks first, then id
+    private int compareOrdinals(int a, int b) {
+        int byValue = Double.compare(marks[b], marks[a]);
+        return byValue != 0 ? byValue : ids[a].compareTo(ids[b]);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length && required <= byMarks.length) return;
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        marks = Arrays.copyOf(marks, capacity);
+        nameTokens = Arrays.copyOf(nameTokens, capacity);
+        qualifications = Arrays.copyOf(qualifications, capacity);
+        byMarks = Arrays.copyOf(byMarks, capacity);
+    }
+}
@@ -0,0 +1,49 @@
+package com.placement.services.search;
+
+import com.placement.models.Candidate;
+import com.placement.services.replica.LocalReplica;
+import com.placement.services.replica.ReplicaCollection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Shared CandidateSearchIndex over the local candidate replica. It is built on first use and then
+// follows every replica change, so it is as current as the replica sync.
+public class CandidateSearchService {
+    private static CandidateSearchIndex index;
+
+    public static synchronized CandidateSearchIndex index() {
+        if (index == null) {
+            CandidateSearchIndex built = new CandidateSearchIndex();
+            LocalReplica.candidates().subscribe(built::rebuild, (id, candidate) -> {
+                if (candidate != null) {
+                    built.upsert(candidate);
+                } else {
+                    built.remove(id);
+                }
+            });
+            index = built;
+        }
+        return index;
+    }
+
+    // True once the replica has been fully copied, so index results cover every candidate
+    public static boolean isReady() {
+        return LocalReplica.candidates().getWatermark() != null;
+    }
+
+    public static CandidateSearchIndex.Result search(CandidateSearch search) {
+        return index().search(search);
+    }
+
+    // Materializes result ids in order; ids removed since the search are skipped
+    public static List<Candidate> candidates(CandidateSearchIndex.Result result) {
+        ReplicaCollection<Candidate> replica = LocalReplica.candidates();
+        List<Candidate> candidates = new ArrayList<>(result.getIds().size());
+        for (String id : result.getIds()) {
+            Candidate candidate = replica.get(id);
+            if (candidate != null) candidates.add(candidate);
+        }
+        return candidates;
+    }
+}